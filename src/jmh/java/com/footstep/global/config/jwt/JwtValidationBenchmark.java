@@ -0,0 +1,66 @@
+package com.footstep.global.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 인증 비용 비교
+ * legacy : 토큰을 3번 파싱하고 매번 Key, JwtParser 를 새로 생성하던 기존 필터 흐름
+ * singleParse : 캐시된 JwtParser 로 한 번만 파싱해 VerifiedToken 을 재사용하는 흐름
+ * cached : VerifiedTokenCache 적중 시 해시 조회만 수행하는 흐름
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET_KEY = "footstepfootstepfootstepfootstepfootstepfootstep";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenUtil, 10000L, 600L);
+        accessToken = jwtTokenUtil.generateAccessToken("footstep@naver.com", 1L, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = legacyParse(accessToken).get("username", String.class);
+        boolean valid = legacyParse(accessToken).get("username", String.class).equals(username);
+        boolean expired = legacyParse(accessToken).getExpiration().before(new Date());
+        return valid && !expired;
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        VerifiedToken verifiedToken = jwtTokenUtil.verify(accessToken);
+        return verifiedToken.getUsername() != null && !verifiedToken.isExpired();
+    }
+
+    @Benchmark
+    public boolean cached() {
+        VerifiedToken verifiedToken = verifiedTokenCache.verify(accessToken);
+        return verifiedToken.getUsername() != null && !verifiedToken.isExpired();
+    }
+
+    private Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
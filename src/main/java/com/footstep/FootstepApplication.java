@@ -3,11 +3,13 @@ package com.footstep;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import javax.annotation.PostConstruct;
 import java.util.TimeZone;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class FootstepApplication {
 
@@ -44,12 +44,15 @@ public enum BaseResponseStatus {
     POSTING_EMPTY_CONTENT(false, 2031, "내용을 입력해주세요."),
     POSTING_INVALID_RECORD_DATE(false, 2032, "게시일은 현재 또는 과거이어야 합니다."),
     POSTING_INVALID_STATUS(false, 2033, "공개 여부 값은 0 또는 1이어야 합니다."),
+    POSTING_INVALID_CURSOR(false, 2034, "잘못된 커서 값입니다."),
+    POSTING_INVALID_IMAGE(false, 2035, "업로드할 수 없는 이미지입니다. 형식과 크기를 확인해주세요."),
 
     // Place
     PLACE_EMPTY_NAME(false, 2040, "장소명을 입력해주세요."),
     PLACE_EMPTY_ADDRESS(false, 2041, "주소를 입력해주세요."),
     PLACE_INVALID_LATITUDE(false, 2042, "위도의 범위는 -90°~90° 입니다."),
     PLACE_INVALID_LONGITUDE(false, 2043, "경도의 범위는 -180°~180° 입니다."),
+    PLACE_INVALID_BOUNDS(false, 2044, "지도 영역 값을 확인해주세요."),
 
     // Comment
     COMMENT_EMPTY_CONTENT(false, 2050, "댓글 내용을 입력해주세요."),
@@ -84,6 +87,8 @@ public enum BaseResponseStatus {
 
     // Posting
     NOT_FOUND_POSTING(false, 3031, "게시글이 존재하지 않습니다."),
+    INVALID_UPLOAD_TOKEN(false, 3032, "이미지 업로드 정보가 올바르지 않거나 만료되었습니다."),
+    NOT_FOUND_UPLOADED_IMAGE(false, 3033, "업로드된 이미지를 찾을 수 없습니다."),
 
     // Comment
     NOT_FOUND_COMMENT(false, 3041, "댓글이 존재하지 않습니다."),
@@ -96,6 +101,8 @@ public enum BaseResponseStatus {
      */
     DATABASE_ERROR(false, 4000, "데이터베이스 연결에 실패하였습니다."),
     SERVER_ERROR(false, 4001, "서버와의 연결에 실패하였습니다."),
+    IMAGE_UPLOAD_BUSY(false, 4002, "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    DIRECT_UPLOAD_NOT_SUPPORTED(false, 4003, "직접 업로드를 지원하지 않는 저장소입니다."),
 
     //[PATCH] /users/{userIdx}
     MODIFY_FAIL_USERNAME(false,4014,"유저네임 수정 실패");
@@ -0,0 +1,60 @@
+package com.footstep.domain.mail.entity;
+
+import com.footstep.domain.base.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (transactional outbox)
+ * 메일을 요청한 트랜잭션 안에서 저장하고 MailOutboxDispatcher 가 별도 스레드에서 SMTP 로 발송
+ * nextAttemptDate 는 다음 발송 시각이자 발송 중인 항목의 점유 만료 시각
+ * content 는 발송 완료 또는 실패 처리 시 비움
+ * expiryDate 가 지난 메일(만료된 인증 코드 등)은 보내지 않고 실패 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_mail_outbox_dispatch", columnList = "status, nextAttemptDate"))
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptDate;
+
+    private String lastError;
+
+    private LocalDateTime expiryDate;
+
+    public MailOutbox(String recipient, String subject, String content, LocalDateTime expiryDate) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptDate = LocalDateTime.now();
+        this.expiryDate = expiryDate;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiryDate != null && !expiryDate.isAfter(now);
+    }
+}
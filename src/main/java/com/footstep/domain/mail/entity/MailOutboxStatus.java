@@ -0,0 +1,5 @@
+package com.footstep.domain.mail.entity;
+
+public enum MailOutboxStatus {
+    PENDING, SENT, FAILED
+}
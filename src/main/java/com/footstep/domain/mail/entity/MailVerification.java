@@ -12,6 +12,9 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import java.time.LocalDateTime;
 
+/**
+ * 이전 메일 인증 코드 테이블, 인증 코드는 MailVerificationCode (Redis) 로 옮겨졌으며 MailVerificationScheduler 가 이관 후 정리
+ */
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
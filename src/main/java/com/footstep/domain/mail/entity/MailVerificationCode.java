@@ -0,0 +1,45 @@
+package com.footstep.domain.mail.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import javax.persistence.Id;
+
+/**
+ * 메일 인증 코드, 메일 주소당 마지막으로 보낸 코드 하나만 유지하고 만료는 Redis TTL 로 처리
+ */
+@Getter
+@RedisHash("mailVerificationCode")
+@AllArgsConstructor
+@Builder
+public class MailVerificationCode {
+
+    public static final long EXPIRATION_SECONDS = 180L;
+
+    @Id
+    private String id;
+
+    private String code;
+
+    @TimeToLive
+    private Long expiration;
+
+    public static MailVerificationCode of(String mail, String code) {
+        return of(mail, code, EXPIRATION_SECONDS);
+    }
+
+    public static MailVerificationCode of(String mail, String code, Long expirationSeconds) {
+        return MailVerificationCode.builder()
+                .id(mail)
+                .code(code)
+                .expiration(expirationSeconds)
+                .build();
+    }
+
+    public boolean matches(String code) {
+        return this.code.equals(code);
+    }
+}
@@ -0,0 +1,56 @@
+package com.footstep.domain.mail.repository;
+
+import com.footstep.domain.mail.entity.MailOutbox;
+import com.footstep.domain.mail.entity.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = 'PENDING' AND m.nextAttemptDate <= :now ORDER BY m.id")
+    List<MailOutbox> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(MailOutboxStatus status);
+
+    /**
+     * 발송할 항목 점유, 다른 스레드(인스턴스)가 먼저 점유했으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.nextAttemptDate = :leaseUntil " +
+            "WHERE m.id = :id AND m.status = 'PENDING' AND m.nextAttemptDate <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 본문에는 임시 비밀번호, 인증 링크가 들어 있으므로 발송이 끝나면 지움
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENT', m.attempts = m.attempts + 1, m.lastError = NULL, m.content = NULL " +
+            "WHERE m.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.attempts = m.attempts + 1, m.nextAttemptDate = :nextAttemptDate, " +
+            "m.lastError = :lastError WHERE m.id = :id")
+    int retryLater(@Param("id") Long id, @Param("nextAttemptDate") LocalDateTime nextAttemptDate, @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'FAILED', m.attempts = m.attempts + 1, m.lastError = :lastError, m.content = NULL " +
+            "WHERE m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN ('SENT', 'FAILED') AND m.createdDate < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package com.footstep.domain.mail.repository;
+
+import com.footstep.domain.mail.entity.MailVerificationCode;
+import org.springframework.data.repository.CrudRepository;
+
+public interface MailVerificationCodeRedisRepository extends CrudRepository<MailVerificationCode, String> {
+}
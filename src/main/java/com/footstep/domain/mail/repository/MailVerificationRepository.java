@@ -2,12 +2,21 @@ package com.footstep.domain.mail.repository;
 
 import com.footstep.domain.mail.entity.MailVerification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface MailVerificationRepository extends JpaRepository<MailVerification, Long> {
-    @Query("SELECT m FROM MailVerification m WHERE m.mail = :mail AND m.code = :code")
-    Optional<MailVerification> findByMailAndCode(@Param("mail") String mail, @Param("code") String code);
+
+    @Query("SELECT m FROM MailVerification m WHERE m.expiredDate > :now ORDER BY m.id")
+    List<MailVerification> findUnexpired(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailVerification m WHERE m.expiredDate <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,36 @@
+package com.footstep.domain.mail.scheduler;
+
+import com.footstep.domain.mail.repository.MailOutboxRepository;
+import com.footstep.domain.mail.service.MailOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 outbox 주기적 발송 (커밋 직후 발송이 거절되었거나 재시도 대기 중인 항목), 발송 완료/실패 항목 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxScheduler {
+
+    private static final long FINISHED_RETENTION_DAYS = 7L;
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-millis:5000}")
+    public void dispatch() {
+        mailOutboxDispatcher.refreshDepth();
+        mailOutboxDispatcher.dispatch();
+    }
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    public void purge() {
+        int deleted = mailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(FINISHED_RETENTION_DAYS));
+        log.info("발송 완료/실패 메일 정리 완료 - {}건", deleted);
+    }
+}
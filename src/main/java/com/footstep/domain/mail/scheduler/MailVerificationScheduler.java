@@ -0,0 +1,71 @@
+package com.footstep.domain.mail.scheduler;
+
+import com.footstep.domain.mail.entity.MailVerification;
+import com.footstep.domain.mail.entity.MailVerificationCode;
+import com.footstep.domain.mail.repository.MailVerificationCodeRedisRepository;
+import com.footstep.domain.mail.repository.MailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이전 메일 인증 테이블(MailVerification) 정리
+ * 시작 시 만료되지 않은 코드를 Redis 로 한 번만 이관 (여러 인스턴스 중 락을 잡은 쪽만 실행), 만료된 행은 주기적으로 삭제
+ * 이관이 끝난 뒤에만 완료 표시를 남기므로 실패하면 다음 시작 때 다시 시도
+ * 완료 표시는 이관 대상(만료되지 않은 코드)이 모두 만료된 뒤 사라지도록 TTL 을 둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailVerificationScheduler {
+
+    private static final String MIGRATED_KEY = "mailVerificationCode:migrated";
+    private static final String MIGRATING_KEY = "mailVerificationCode:migrating";
+    private static final Duration MIGRATED_TTL = Duration.ofDays(1);
+    private static final Duration MIGRATING_TTL = Duration.ofMinutes(5);
+
+    private final MailVerificationRepository mailVerificationRepository;
+    private final MailVerificationCodeRedisRepository mailVerificationCodeRedisRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(MIGRATED_KEY)))
+            return;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(MIGRATING_KEY, LocalDateTime.now().toString(), MIGRATING_TTL)))
+            return;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailVerification> verifications = mailVerificationRepository.findUnexpired(now);
+            // id 순으로 저장해 같은 메일이면 마지막으로 보낸 코드가 남음
+            for (MailVerification verification : verifications) {
+                long remainSeconds = Duration.between(now, verification.getExpiredDate()).getSeconds();
+                if (remainSeconds > 0)
+                    mailVerificationCodeRedisRepository.save(
+                            MailVerificationCode.of(verification.getMail(), verification.getCode(), remainSeconds));
+            }
+            stringRedisTemplate.opsForValue().set(MIGRATED_KEY, now.toString(), MIGRATED_TTL);
+            log.info("메일 인증 코드 Redis 이관 완료 - {}건", verifications.size());
+        } catch (RuntimeException e) {
+            log.error("메일 인증 코드 Redis 이관 실패, 다음 시작 시 재시도", e);
+            return;
+        } finally {
+            stringRedisTemplate.delete(MIGRATING_KEY);
+        }
+        purge();
+    }
+
+    @Scheduled(cron = "0 30 5 * * *", zone = "Asia/Seoul")
+    public void purge() {
+        int deleted = mailVerificationRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 메일 인증 정보 삭제 완료 - {}건", deleted);
+    }
+}
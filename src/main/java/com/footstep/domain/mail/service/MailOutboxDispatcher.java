@@ -0,0 +1,210 @@
+package com.footstep.domain.mail.service;
+
+import com.footstep.domain.mail.entity.MailOutbox;
+import com.footstep.domain.mail.entity.MailOutboxStatus;
+import com.footstep.domain.mail.repository.MailOutboxRepository;
+import com.footstep.global.config.async.AsyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MailOutbox 발송
+ * 발송 대기 항목을 배치 단위로 점유해 SMTP 연결 하나로 보내고, 실패한 항목은 지수 백오프로 재시도
+ * 실행 중인 배치 수를 mailDispatchExecutor 스레드 수로 제한 (SMTP 서버가 느려져도 요청 스레드, DB 연결에 영향 없음)
+ */
+@Slf4j
+@Service
+public class MailOutboxDispatcher {
+
+    private static final String FROM_ADDRESS = "footstepdangbal@gmail.com";
+    private static final String FROM_NAME = "당신의 발자취";
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor mailDispatchExecutor;
+    private final int threads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender javaMailSender,
+                                @Qualifier(AsyncConfig.MAIL_DISPATCH_EXECUTOR) ThreadPoolTaskExecutor mailDispatchExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${mail.outbox.batch-size:50}") int batchSize,
+                                @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                                @Value("${mail.outbox.backoff-seconds:30}") long backoffSeconds,
+                                @Value("${mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                @Value("${mail.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.mailDispatchExecutor = mailDispatchExecutor;
+        this.threads = mailDispatchExecutor.getMaxPoolSize();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofSeconds(backoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        Gauge.builder("mail.outbox.depth", depth, AtomicLong::get)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed").register(meterRegistry);
+    }
+
+    /**
+     * 실행 중인 배치가 스레드 수보다 적으면 발송 작업 추가
+     */
+    public void dispatch() {
+        if (running.incrementAndGet() > threads) {
+            running.decrementAndGet();
+            return;
+        }
+        try {
+            mailDispatchExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            running.decrementAndGet();
+        }
+    }
+
+    public void refreshDepth() {
+        depth.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+    }
+
+    private void drain() {
+        try {
+            int fetched;
+            do {
+                fetched = sendBatch();
+            } while (fetched == batchSize);
+        } catch (RuntimeException e) {
+            log.error("메일 발송 작업 실패", e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return 조회한 항목 수 (batchSize 와 같으면 대기 항목이 더 남아 있을 수 있음)
+     */
+    private int sendBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> candidates = mailOutboxRepository.findDispatchable(now, PageRequest.of(0, batchSize));
+        Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        for (MailOutbox mail : candidates) {
+            if (mailOutboxRepository.claim(mail.getId(), now, now.plus(lease)) == 0)
+                continue;
+            if (mail.isExpired(now)) {
+                log.info("만료된 메일 발송 취소 - {}", mail.getId());
+                mailOutboxRepository.markFailed(mail.getId(), "expired");
+                continue;
+            }
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                fail(mail, e);
+            }
+        }
+        if (!messages.isEmpty())
+            send(messages);
+        return candidates.size();
+    }
+
+    /**
+     * JavaMailSender 는 여러 메시지를 한 번에 받으면 SMTP 연결 하나로 보내고 실패한 메시지만 모아 MailSendException 으로 알려줌
+     */
+    private void send(Map<MimeMessage, MailOutbox> messages) {
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failedMessages = allFailed(messages, e);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailOutbox> entry : messages.entrySet()) {
+            Exception failure = failedMessages.get(entry.getKey());
+            if (failure == null)
+                sentIds.add(entry.getValue().getId());
+            else
+                retryOrFail(entry.getValue(), failure);
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds);
+            sentCounter.increment(sentIds.size());
+        }
+    }
+
+    private Map<Object, Exception> allFailed(Map<MimeMessage, MailOutbox> messages, Exception e) {
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failed.put(message, e));
+        return failed;
+    }
+
+    private void retryOrFail(MailOutbox mail, Exception e) {
+        int attempts = mail.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            fail(mail, e);
+            return;
+        }
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (delay.compareTo(maxBackoff) > 0)
+            delay = maxBackoff;
+        log.warn("메일 발송 실패 ({}/{}), {}초 후 재시도 - {}", attempts, maxAttempts, delay.toSeconds(), mail.getId(), e);
+        mailOutboxRepository.retryLater(mail.getId(), LocalDateTime.now().plus(delay), errorMessage(e));
+    }
+
+    private void fail(MailOutbox mail, Exception e) {
+        log.error("메일 발송 실패 - {}", mail.getId(), e);
+        mailOutboxRepository.markFailed(mail.getId(), errorMessage(e));
+        failedCounter.increment();
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+        messageHelper.setFrom(FROM_ADDRESS, FROM_NAME);
+        messageHelper.setTo(mail.getRecipient());
+        messageHelper.setSubject(mail.getSubject());
+        messageHelper.setText(mail.getContent(), true);
+        return message;
+    }
+
+    private String errorMessage(Exception e) {
+        String message = String.valueOf(e.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -1,19 +1,19 @@
 package com.footstep.domain.mail.service;
 
-import com.footstep.domain.base.BaseException;
-import com.footstep.domain.mail.entity.MailVerification;
-import com.footstep.domain.mail.repository.MailVerificationRepository;
+import com.footstep.domain.mail.entity.MailOutbox;
+import com.footstep.domain.mail.entity.MailVerificationCode;
+import com.footstep.domain.mail.repository.MailOutboxRepository;
+import com.footstep.domain.mail.repository.MailVerificationCodeRedisRepository;
 import com.footstep.domain.users.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-import java.io.UnsupportedEncodingException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 import java.util.Random;
 
 @RequiredArgsConstructor
@@ -22,18 +22,16 @@ import java.util.Random;
 @PropertySource("classpath:mail/email.properties")
 public class MailService {
 
-    private final JavaMailSender javaMailSender;
     private final UsersRepository usersRepository;
-    private final MailVerificationRepository mailVerificationRepository;
+    private final MailVerificationCodeRedisRepository mailVerificationCodeRedisRepository;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
 
     @Value("${spring.mail.username}")
     private String email;
 
 
-    public void sendMailForBlock(String to) throws BaseException, MessagingException , UnsupportedEncodingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
-
+    public void sendMailForBlock(String to) {
         String text = "";
         text += "<div style='margin:20px;'>";
         text += "<h1> 당신의 발자취 계정 정지안내입니다.</h1>";
@@ -45,17 +43,10 @@ public class MailService {
         text += "<p> 문의할 내용이 있다면 <b>footstepdangbal@gmail.com</b>으로 문의부탁드립니다.</p>";
         text += "<p> 감사합니다.</p>";
 
-        messageHelper.setFrom("footstepdangbal@gmail.com", "당신의 발자취");
-        messageHelper.setTo(to);
-        messageHelper.setSubject("당신의 발자취 계정 정지 안내드립니다.");
-        messageHelper.setText(text, true);
-
-        javaMailSender.send(message);
+        enqueue(to, "당신의 발자취 계정 정지 안내드립니다.", text);
     }
 
-    public void sendMailForReport(String to, String nickname, String title, String reason) throws BaseException, MessagingException , UnsupportedEncodingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+    public void sendMailForReport(String to, String nickname, String title, String reason) {
         String text = "";
         if (title.equals("")) {
             text += "<div style='margin:20px;'>";
@@ -83,17 +74,10 @@ public class MailService {
             text += "<p> 감사합니다. </p>";
         }
 
-        messageHelper.setFrom("footstepdangbal@gmail.com", "당신의 발자취");
-        messageHelper.setTo(to);
-        messageHelper.setSubject("당신의 발자취 신고 안내드립니다.");
-        messageHelper.setText(text, true);
-
-        javaMailSender.send(message);
+        enqueue(to, "당신의 발자취 신고 안내드립니다.", text);
     }
 
-    public void sendVerificationMail(String to, String nickname) throws MessagingException, UnsupportedEncodingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+    public void sendVerificationMail(String to, String nickname) {
         String ePw = createKey();
         String text = "";
         text += " <div" +
@@ -118,18 +102,13 @@ public class MailService {
                         "	<div style=\"border-top: 1px solid #FF8000; padding: 5px;\"></div>" +
                         " </div>";
 
-        messageHelper.setFrom("footstepdangbal@gmail.com", "당신의 발자취");
-        messageHelper.setTo(to);
-        messageHelper.setSubject("당신의 발자취 인증 메일입니다.");
-        messageHelper.setText(text, true);
-
-        javaMailSender.send(message);
-        mailVerificationRepository.save(new MailVerification(to, ePw));
+        // 재시도 중 코드가 만료되면 보내지 않음
+        enqueue(to, "당신의 발자취 인증 메일입니다.", text,
+                LocalDateTime.now().plusSeconds(MailVerificationCode.EXPIRATION_SECONDS));
+        mailVerificationCodeRedisRepository.save(MailVerificationCode.of(to, ePw));
     }
 
-    public String sendMailForPassword(String to, String nickname) throws MessagingException, UnsupportedEncodingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+    public String sendMailForPassword(String to, String nickname) {
         String ePw = createKey();
         String text = "";
         text += " <div" +
@@ -151,15 +130,27 @@ public class MailService {
                 "	<div style=\"border-top: 1px solid #DDD; padding: 5px;\"></div>" +
                 " </div>";
 
-        messageHelper.setFrom("footstepdangbal@gmail.com", "당신의 발자취");
-        messageHelper.setTo(to);
-        messageHelper.setSubject("당신의 발자취 임시 비밀번호 메일입니다.");
-        messageHelper.setText(text, true);
-
-        javaMailSender.send(message);
+        enqueue(to, "당신의 발자취 임시 비밀번호 메일입니다.", text);
         return ePw;
     }
 
+    /**
+     * 호출한 트랜잭션과 함께 outbox 에 저장하고 커밋되면 바로 발송 시도
+     */
+    private void enqueue(String to, String subject, String text) {
+        enqueue(to, subject, text, null);
+    }
+
+    private void enqueue(String to, String subject, String text, LocalDateTime expiryDate) {
+        mailOutboxRepository.save(new MailOutbox(to, subject, text, expiryDate));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mailOutboxDispatcher.dispatch();
+            }
+        });
+    }
+
     public  String createKey() {
         StringBuffer key = new StringBuffer();
         Random rnd = new Random();
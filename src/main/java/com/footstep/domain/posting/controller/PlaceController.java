@@ -124,6 +124,67 @@ public class PlaceController {
         }
     }
 
+    @ApiOperation(
+            value = "모든 발자취 클러스터 조회",
+            notes = "사용자가 생성한 모든 발자취를 줌 레벨에 맞게 묶어 클러스터 중심 좌표와 장소 수를 조회 (줌 16 이상은 장소 단위)",
+            response = PlaceClusterDto.class)
+    @ApiResponses({
+            @ApiResponse(code = 2005, message = "로그인이 필요합니다.")
+    })
+    @GetMapping("/all/cluster")
+    public BaseResponse<List<PlaceClusterDto>> viewAllPlaceCluster(
+            @ApiParam(value = "줌 레벨 (0~21, 클수록 확대)", example = "10") @RequestParam(value = "zoom", defaultValue = "10") int zoom,
+            @RequestHeader("Authorization")String accessToken) {
+        try {
+            return new BaseResponse<>(placeService.viewAllPlaceCluster(zoom));
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
+    @ApiOperation(
+            value = "도시 설정 후 지도에 발자취 클러스터 표시",
+            notes = "선택한 도시 안의 발자취를 줌 레벨에 맞게 묶어 클러스터 중심 좌표와 장소 수를 조회 (줌 16 이상은 장소 단위)",
+            response = PlaceClusterDto.class)
+    @ApiResponses({
+            @ApiResponse(code = 2005, message = "로그인이 필요합니다."),
+            @ApiResponse(code = 3022, message = "없는 도시입니다.")
+    })
+    @GetMapping("/city/{city-name}/cluster")
+    public BaseResponse<List<PlaceClusterDto>> viewSpecificCityCluster(
+            @ApiParam(value = "도시명", required = true, example = "서울") @PathVariable("city-name") String cityName,
+            @ApiParam(value = "줌 레벨 (0~21, 클수록 확대)", example = "12") @RequestParam(value = "zoom", defaultValue = "12") int zoom,
+            @RequestHeader("Authorization")String accessToken) {
+        try {
+            return new BaseResponse<>(placeService.viewSpecificCityCluster(cityName, zoom));
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
+    @ApiOperation(
+            value = "지도 영역 내 발자취 조회",
+            notes = "현재 지도 화면의 위도/경도 범위와 줌 레벨을 이용해 해당 영역 안에 있는 사용자의 발자취 위치 정보 조회",
+            response = AllPlaceDto.class)
+    @ApiResponses({
+            @ApiResponse(code = 2005, message = "로그인이 필요합니다."),
+            @ApiResponse(code = 2044, message = "지도 영역 값을 확인해주세요.")
+    })
+    @GetMapping("/bounds")
+    public BaseResponse<List<AllPlaceDto>> viewPlacesInBounds(
+            @ApiParam(value = "최소 위도", required = true, example = "37.55") @RequestParam("minLatitude") Double minLatitude,
+            @ApiParam(value = "최대 위도", required = true, example = "37.60") @RequestParam("maxLatitude") Double maxLatitude,
+            @ApiParam(value = "최소 경도", required = true, example = "126.95") @RequestParam("minLongitude") Double minLongitude,
+            @ApiParam(value = "최대 경도", required = true, example = "127.00") @RequestParam("maxLongitude") Double maxLongitude,
+            @ApiParam(value = "줌 레벨 (0~21, 클수록 확대)", example = "14") @RequestParam(value = "zoom", defaultValue = "14") int zoom,
+            @RequestHeader("Authorization")String accessToken) {
+        try {
+            return new BaseResponse<>(placeService.viewPlacesInBounds(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom));
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     @ApiOperation(
             value = "특정 위치의 발자취 장소(팝업) 클릭 후 지정 날짜 게시물 리스트 조회",
             notes = "특정 위치 ID를 이용해 현재 사용자가 해당 위치, 해당 날짜에 생성한 발자취에 대해 리스트 형태로 조회",
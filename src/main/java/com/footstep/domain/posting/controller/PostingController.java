@@ -10,6 +10,7 @@ import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import com.footstep.domain.posting.service.DirectUploadService;
 import com.footstep.domain.posting.service.PostingService;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,8 +32,28 @@ import java.sql.Date;
 public class PostingController {
 
     private final PostingService postingService;
+    private final DirectUploadService directUploadService;
     private final ReportService reportService;
 
+    @ApiOperation(
+            value = "이미지 업로드 URL 발급",
+            notes = "이미지를 저장소에 직접 올릴 URL 과 업로드 토큰 발급, 업로드 후 발자취 생성 시 objectKey 와 uploadToken 전달")
+    @ApiResponses({
+            @ApiResponse(code = 2035, message = "업로드할 수 없는 이미지입니다. 형식과 크기를 확인해주세요."),
+            @ApiResponse(code = 4003, message = "직접 업로드를 지원하지 않는 저장소입니다.")
+    })
+    @PostMapping("/image/upload-url")
+    public BaseResponse<ImageUploadUrlDto> createImageUploadUrl(@RequestHeader("Authorization")String accessToken,
+                                                                @Valid @RequestBody ImageUploadUrlRequestDto imageUploadUrlRequestDto, BindingResult bindingResult) {
+        try {
+            if(bindingResult.hasErrors())
+                throw new BaseException(BaseResponseStatus.POSTING_INVALID_IMAGE);
+            return new BaseResponse<>(directUploadService.createUploadUrl(imageUploadUrlRequestDto));
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     @ApiOperation(
             value = "발자취 생성",
             notes = "발자취(게시물) 생성")
@@ -44,7 +65,10 @@ public class PostingController {
             @ApiResponse(code = 2040, message = "장소명을 입력해주세요."),
             @ApiResponse(code = 2041, message = "주소를 입력해주세요."),
             @ApiResponse(code = 2042, message = "위도의 범위는 -90°~90° 입니다."),
-            @ApiResponse(code = 2043, message = "경도의 범위는 -180°~180° 입니다.")
+            @ApiResponse(code = 2043, message = "경도의 범위는 -180°~180° 입니다."),
+            @ApiResponse(code = 2035, message = "업로드할 수 없는 이미지입니다. 형식과 크기를 확인해주세요."),
+            @ApiResponse(code = 3032, message = "이미지 업로드 정보가 올바르지 않거나 만료되었습니다."),
+            @ApiResponse(code = 3033, message = "업로드된 이미지를 찾을 수 없습니다.")
     })
     @PostMapping(value = "/write")
     public BaseResponse<BaseResponseStatus> uploadPosting(@RequestHeader("Authorization")String accessToken, @RequestPart(required = false) MultipartFile image,
@@ -157,6 +181,27 @@ public class PostingController {
         }
     }
 
+    @ApiOperation(
+            value = "갤러리 발자취 캘린더 조회",
+            notes = "현재 사용자가 생성한 발자취의 날짜별 게시글 수와 게시글이 있는 날짜 수 조회 (기간 생략 시 전체)",
+            response = CalendarResponseDto.class)
+    @ApiResponses({
+            @ApiResponse(code = 3031, message = "게시글이 존재하지 않습니다.")
+    })
+    @GetMapping("/gallery/calendar")
+    public BaseResponse<CalendarResponseDto> viewGalleryCalendar(@RequestHeader("Authorization")String accessToken,
+                                                                 @ApiParam(value = "조회 시작 날짜", example = "2023-01-01")
+                                                                 @RequestParam(required = false) Date startDate,
+                                                                 @ApiParam(value = "조회 끝 날짜", example = "2023-01-31")
+                                                                 @RequestParam(required = false) Date endDate) {
+        try {
+            CalendarResponseDto result = postingService.viewGalleryCalendar(startDate, endDate);
+            return new BaseResponse<>(result);
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     @ApiOperation(
             value = "갤러리 발자취 캘린더 지정 조회",
             notes = "현재 사용자가 지정한 날짜의 갤러리 발자취에 대해 리스트 형태로 조회",
@@ -219,15 +264,20 @@ public class PostingController {
 
     @ApiOperation(
             value = "유저 피드 리스트 조회",
-            notes = "현재 사용자를 제외한 모든 유저에 대한 게시글을 리스트 형태로 조회",
+            notes = "현재 사용자를 제외한 모든 유저에 대한 게시글을 최신순 커서 페이지 형태로 조회",
             response = FeedListResponseDto.class)
     @ApiResponses({
+            @ApiResponse(code = 2034, message = "잘못된 커서 값입니다."),
             @ApiResponse(code = 3031, message = "게시글이 존재하지 않습니다.")
     })
     @GetMapping("/feed")
-    public BaseResponse<FeedListResponseDto> viewFeed(@RequestHeader("Authorization")String accessToken) {
+    public BaseResponse<FeedListResponseDto> viewFeed(@RequestHeader("Authorization")String accessToken,
+                                                      @ApiParam(value = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                                                      @RequestParam(required = false) String cursor,
+                                                      @ApiParam(value = "페이지 크기 (최대 50)", example = "20")
+                                                      @RequestParam(defaultValue = "20") int size) {
         try {
-            FeedListResponseDto result = postingService.viewFeed();
+            FeedListResponseDto result = postingService.viewFeed(cursor, size);
             return new BaseResponse<>(result);
         } catch (BaseException exception) {
             return new BaseResponse<>(exception.getStatus());
@@ -0,0 +1,33 @@
+package com.footstep.domain.posting.domain.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import javax.persistence.Id;
+
+/**
+ * 직접 업로드 URL 발급 정보, 게시글 작성 시 한 번만 사용
+ */
+@Getter
+@RedisHash("imageUploadToken")
+@AllArgsConstructor
+@Builder
+public class ImageUploadToken {
+
+    @Id
+    private String id;
+
+    private Long usersId;
+
+    private String objectKey;
+
+    private String contentType;
+
+    private Long contentLength;
+
+    @TimeToLive
+    private Long expiration;
+}
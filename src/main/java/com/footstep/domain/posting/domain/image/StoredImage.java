@@ -0,0 +1,84 @@
+package com.footstep.domain.posting.domain.image;
+
+import com.footstep.domain.base.BaseTimeEntity;
+import com.footstep.domain.base.Status;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내용 기반(SHA-256) 이미지 저장소 항목
+ * 객체 키가 원본 이미지 해시로 정해지므로 같은 이미지는 한 번만 업로드하고 게시글/프로필 참조 수(refCount)로 공유
+ * refCount 가 0 이 된 뒤 일정 시간이 지나면 StoredImageGcScheduler 가 저장소 객체와 함께 삭제 (삭제 중에는 status = EXPIRED)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stored_image_digest", columnNames = "digest"),
+        indexes = @Index(name = "idx_stored_image_gc", columnList = "status, refCount, releasedDate"))
+public class StoredImage extends BaseTimeEntity {
+
+    private static final String DIR_NAME = "footstep/";
+
+    @Id
+    @GeneratedValue
+    @Column(name = "stored_image_id")
+    private Long id;
+
+    @Column(length = 64, nullable = false)
+    private String digest;
+
+    private String imageUrl;
+    private String mediumUrl;
+    private String thumbnailUrl;
+    private String blurHash;
+
+    // 디코딩할 수 없는 형식이면 파생본 없이 원본만 저장
+    private boolean hasVariants;
+
+    private Long refCount;
+
+    private LocalDateTime releasedDate;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Builder
+    public StoredImage(String digest, String imageUrl, String mediumUrl, String thumbnailUrl, String blurHash, boolean hasVariants) {
+        this.digest = digest;
+        this.imageUrl = imageUrl;
+        this.mediumUrl = mediumUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.blurHash = blurHash;
+        this.hasVariants = hasVariants;
+        this.refCount = 1L;
+        this.status = Status.NORMAL;
+    }
+
+    public static String originalKey(String digest) {
+        return DIR_NAME + digest;
+    }
+
+    public static String fullKey(String digest) {
+        return DIR_NAME + digest + ".jpg";
+    }
+
+    public static String mediumKey(String digest) {
+        return DIR_NAME + digest + "_medium.jpg";
+    }
+
+    public static String thumbnailKey(String digest) {
+        return DIR_NAME + digest + "_thumb.jpg";
+    }
+
+    public List<String> getObjectKeys() {
+        if (!hasVariants)
+            return List.of(originalKey(digest));
+        return List.of(fullKey(digest), mediumKey(digest), thumbnailKey(digest));
+    }
+}
@@ -3,6 +3,7 @@ package com.footstep.domain.posting.domain.place;
 import com.footstep.domain.base.BaseTimeEntity;
 import com.footstep.domain.base.Status;
 import com.footstep.domain.posting.domain.posting.Posting;
+import com.footstep.domain.posting.util.GeoHash;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +16,9 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_place_geohash", columnList = "geohash"),
+        @Index(name = "idx_place_city", columnList = "city")})
 public class Place extends BaseTimeEntity {
 
     @Id
@@ -25,6 +29,8 @@ public class Place extends BaseTimeEntity {
     private String address;
     private Double latitude;
     private Double longitude;
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
     @Enumerated(EnumType.STRING)
     private City city;
     @Enumerated(EnumType.STRING)
@@ -39,8 +45,23 @@ public class Place extends BaseTimeEntity {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geohash = toGeohash(latitude, longitude);
         this.city = city;
         this.status = status;
         this.postings = new ArrayList<>();
     }
+
+    public void expire() {
+        this.status = Status.EXPIRED;
+    }
+
+    public void updateGeohash() {
+        this.geohash = toGeohash(latitude, longitude);
+    }
+
+    private static String toGeohash(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null)
+            return null;
+        return GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+    }
 }
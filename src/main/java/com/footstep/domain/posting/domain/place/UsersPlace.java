@@ -0,0 +1,47 @@
+package com.footstep.domain.posting.domain.place;
+
+import com.footstep.domain.users.domain.Users;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 유저별 장소 요약 (유저가 해당 장소에 남긴 게시글 수)
+ * 도시별 지도 조회를 유저의 전체 게시글이 아닌 해당 도시 장소 수에 비례하도록 하기 위한 테이블
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_users_place", columnNames = {"users_id", "place_id"}),
+        indexes = @Index(name = "idx_users_place_city", columnList = "users_id, city"))
+public class UsersPlace {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "users_place_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private City city;
+
+    private Long postingCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "users_id")
+    private Users users;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "place_id")
+    private Place place;
+
+    @Builder
+    public UsersPlace(Users users, Place place, City city, Long postingCount) {
+        this.users = users;
+        this.place = place;
+        this.city = city;
+        this.postingCount = postingCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.footstep.domain.posting.domain.posting;
+
+/**
+ * 게시글 이미지 업로드 상태
+ * NONE : 이미지 없음, PENDING : 업로드 중, READY : 업로드 완료, FAILED : 재시도 후에도 업로드 실패
+ */
+public enum ImageStatus {
+    NONE,
+    PENDING,
+    READY,
+    FAILED
+}
@@ -11,6 +11,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.format.annotation.DateTimeFormat;
 import reactor.util.annotation.Nullable;
 
@@ -23,6 +26,10 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_posting_feed", columnList = "visibilityStatus, status, recordDate, posting_id"),
+        @Index(name = "idx_posting_users_status", columnList = "users_id, status")})
 public class Posting extends BaseTimeEntity {
 
     @Id
@@ -33,6 +40,17 @@ public class Posting extends BaseTimeEntity {
     private String content;
     @Nullable
     private String imageUrl;
+    @Nullable
+    private String mediumUrl;
+    @Nullable
+    private String thumbnailUrl;
+    @Nullable
+    private String blurHash;
+    @Nullable
+    @Column(length = 64)
+    private String imageDigest;
+    @Enumerated(EnumType.STRING)
+    private ImageStatus imageStatus;
     private LocalDateTime modifiedDate;
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private Date recordDate;
@@ -40,10 +58,16 @@ public class Posting extends BaseTimeEntity {
     private VisibilityStatus visibilityStatus;
     @Enumerated(EnumType.STRING)
     private Status status;
+    @ColumnDefault("0")
+    private Long likeCount;
+    @ColumnDefault("0")
+    private Long commentCount;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "posting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Likes> likeList = new ArrayList<>();
 
@@ -56,14 +80,17 @@ public class Posting extends BaseTimeEntity {
     private Place place;
 
     @Builder
-    public Posting(String title, String content, String imageUrl, Date recordDate, int visibilityStatusCode, Users users, Place place) {
+    public Posting(String title, String content, String imageUrl, ImageStatus imageStatus, Date recordDate, int visibilityStatusCode, Users users, Place place) {
         this.title = title;
         this.content = content;
         this.imageUrl = imageUrl;
+        this.imageStatus = imageStatus;
         this.modifiedDate = getExpiredDate();
         this.recordDate = recordDate;
         this.visibilityStatus = VisibilityStatus.get(visibilityStatusCode);
         this.status = Status.NORMAL;
+        this.likeCount = 0L;
+        this.commentCount = 0L;
         this.users = users;
         this.place = place;
     }
@@ -0,0 +1,21 @@
+package com.footstep.domain.posting.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarDto {
+
+    @ApiModelProperty(notes = "발자취 게시일", example = "2022-08-10")
+    @JsonFormat(pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    private Date recordDate;
+    @ApiModelProperty(notes = "해당 날짜에 게시된 발자취 게시글 수", example = "3")
+    private Long postingCount;
+}
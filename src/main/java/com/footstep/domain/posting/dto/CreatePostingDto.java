@@ -28,4 +28,8 @@ public class CreatePostingDto {
     @ApiModelProperty(value = "발자취 공개 여부", required = true, example = "1")
     @Min(0) @Max(1)
     private int visibilityStatusCode;
+    @ApiModelProperty(value = "직접 업로드한 이미지 객체 키 (image 대신 사용)", example = "footstep/upload/1/2f0c8a4e-6a0e-4c1b-9d3e-5b8f1c2a7e90")
+    private String objectKey;
+    @ApiModelProperty(value = "직접 업로드 토큰", example = "9b1d4f3a-8c2e-4a7b-b6d5-0e3f2a1c9d87")
+    private String uploadToken;
 }
@@ -22,6 +22,10 @@ public class FeedListDto {
     private String nickname;
     @ApiModelProperty(notes = "게시글 사진", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
     private String imageUrl;
+    @ApiModelProperty(notes = "게시글 중간 크기 사진 (1080px)", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
+    private String mediumUrl;
+    @ApiModelProperty(notes = "이미지 로딩 전 미리보기용 BlurHash", example = "LhGDU^|U$8wv;vw#o2o1sUjufQjt")
+    private String blurHash;
     @ApiModelProperty(notes = "게시글 제목", example = "제목예시")
     private String title;
     @ApiModelProperty(notes = "게시글 내용", example = "내용예시")
@@ -15,4 +15,6 @@ public class FeedListResponseDto {
     private List<FeedListDto> feedListDto;
     @ApiModelProperty(notes = "유저 피드 리스트 갯수", example = "3")
     private Long postingCount;
+    @ApiModelProperty(notes = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyMy0wMS0yM18xMjM")
+    private String nextCursor;
 }
@@ -0,0 +1,17 @@
+package com.footstep.domain.posting.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImageUploadUrlDto {
+
+    @ApiModelProperty(value = "이미지를 PUT 으로 올릴 URL (Content-Type, Content-Length 헤더는 요청한 값 그대로)")
+    private String uploadUrl;
+    @ApiModelProperty(value = "발자취 생성 시 전달할 객체 키", example = "footstep/upload/1/2f0c8a4e-6a0e-4c1b-9d3e-5b8f1c2a7e90")
+    private String objectKey;
+    @ApiModelProperty(value = "발자취 생성 시 전달할 업로드 토큰", example = "9b1d4f3a-8c2e-4a7b-b6d5-0e3f2a1c9d87")
+    private String uploadToken;
+}
@@ -0,0 +1,22 @@
+package com.footstep.domain.posting.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadUrlRequestDto {
+
+    @ApiModelProperty(value = "이미지 형식", required = true, example = "image/jpeg")
+    @NotBlank
+    private String contentType;
+    @ApiModelProperty(value = "이미지 크기 (byte)", required = true, example = "1048576")
+    @Positive
+    private long contentLength;
+}
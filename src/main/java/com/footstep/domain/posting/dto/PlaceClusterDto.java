@@ -0,0 +1,25 @@
+package com.footstep.domain.posting.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaceClusterDto {
+
+    @ApiModelProperty(notes = "클러스터 geohash 셀", example = "wydm")
+    private String cell;
+    @ApiModelProperty(notes = "클러스터 중심 위도", example = "37.5776087830657")
+    private Double latitude;
+    @ApiModelProperty(notes = "클러스터 중심 경도", example = "126.976896737645")
+    private Double longitude;
+    @ApiModelProperty(notes = "클러스터에 포함된 장소 수", example = "12")
+    private Long placeCount;
+    @ApiModelProperty(notes = "장소 인덱스 (장소가 하나일 때만)", example = "1")
+    private Long placeId;
+    @ApiModelProperty(notes = "장소명 (장소가 하나일 때만)", example = "경복궁")
+    private String placeName;
+}
@@ -20,6 +20,10 @@ public class PostingListDto {
     private Date recordDate;
     @ApiModelProperty(notes = "발자취 사진", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
     private String imageUrl;
+    @ApiModelProperty(notes = "발자취 썸네일 사진 (320px)", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
+    private String thumbnailUrl;
+    @ApiModelProperty(notes = "이미지 로딩 전 미리보기용 BlurHash", example = "LhGDU^|U$8wv;vw#o2o1sUjufQjt")
+    private String blurHash;
     @ApiModelProperty(notes = "발자취 제목", example = "제목예시")
     private String title;
     @ApiModelProperty(notes = "발자취 좋아요 수", example = "10")
@@ -14,6 +14,10 @@ public class SpecificPlaceDto {
     private String name;
     @ApiModelProperty(notes = "최근 게시된 사진", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
     private String imageUrl;
+    @ApiModelProperty(notes = "최근 게시된 사진 썸네일 (320px)", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
+    private String thumbnailUrl;
+    @ApiModelProperty(notes = "이미지 로딩 전 미리보기용 BlurHash", example = "LhGDU^|U$8wv;vw#o2o1sUjufQjt")
+    private String blurHash;
     @ApiModelProperty(notes = "발자취 수", example = "2")
     private int postingCount;
 }
@@ -23,6 +23,8 @@ public class SpecificPostingDto {
     private String content; //3. 발자취 설명
     @ApiModelProperty(notes = "발자취 사진", example = "http://news.samsungdisplay.com/wp-content/uploads/2018/08/1.png")
     private String imageUrl; //4. 발자취 사진
+    @ApiModelProperty(notes = "발자취 사진 업로드 상태 (NONE, PENDING, READY, FAILED)", example = "READY")
+    private String imageStatus;
     @ApiModelProperty(notes = "장소명", example = "서울역")
     private String placeName;   //5. 발자취 장소(위치)
     @ApiModelProperty(notes = "발자취 좋아요 수", example = "10")
@@ -0,0 +1,7 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.posting.domain.image.ImageUploadToken;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ImageUploadTokenRedisRepository extends CrudRepository<ImageUploadToken, String>, ImageUploadTokenRedisRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.footstep.domain.posting.repository;
+
+/**
+ * 업로드 토큰 1회 사용 처리
+ */
+public interface ImageUploadTokenRedisRepositoryCustom {
+
+    /**
+     * 토큰을 원자적으로 삭제
+     * @return 이 호출이 삭제했으면 true, 이미 사용되었거나 만료되었으면 false
+     */
+    boolean consume(String id);
+}
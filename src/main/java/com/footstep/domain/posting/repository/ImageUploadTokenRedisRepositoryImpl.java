@@ -0,0 +1,34 @@
+package com.footstep.domain.posting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * findById 후 deleteById 는 동시에 들어온 두 요청이 모두 통과할 수 있으므로
+ * @RedisHash("imageUploadToken") 가 만드는 키(해시, TTL 용 phantom, id 집합)를 스크립트 하나로 삭제하고 삭제 여부로 판단
+ */
+@RequiredArgsConstructor
+public class ImageUploadTokenRedisRepositoryImpl implements ImageUploadTokenRedisRepositoryCustom {
+
+    private static final String KEYSPACE = "imageUploadToken";
+
+    // KEYS: hash, phantom, index / ARGV: id
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('DEL', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "redis.call('SREM', KEYS[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean consume(String id) {
+        String key = KEYSPACE + ":" + id;
+        Long deleted = stringRedisTemplate.execute(CONSUME_SCRIPT, List.of(key, key + ":phantom", KEYSPACE), id);
+        return deleted != null && deleted == 1L;
+    }
+}
@@ -0,0 +1,221 @@
+package com.footstep.domain.posting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 좋아요 수 / 좋아요 누른 유저 집합 / 유저별 좋아요한 게시글 집합을 Redis 에 보관하고,
+ * 변경 내역은 pending 해시에 쌓아 LikeFlushScheduler 가 Likes 테이블에 일괄 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeRedisRepository {
+
+    private static final String POSTING_PREFIX = "like:posting:";
+    private static final String USERS_PREFIX = "like:users:";
+    // 유저별 집합이 적재되었음을 나타내는 멤버 (게시글 id 는 0 이 될 수 없음)
+    private static final String LOADED_MARKER = "0";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String FLUSHING_KEY = "like:pending:flushing";
+    private static final String FLUSH_LOCK_KEY = "like:flush:lock";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    public static final long NOT_LOADED = -1L;
+
+    // KEYS: users, count, flushing, pending / ARGV: ttl, postingId, usersId...
+    // 아직 Likes 테이블에 반영되지 않은 변경 내역까지 덮어쓰고 좋아요 수는 집합 크기로 맞춤
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "for k = 3, 4 do " +
+            "  local cursor = '0' " +
+            "  repeat " +
+            "    local res = redis.call('HSCAN', KEYS[k], cursor, 'MATCH', ARGV[2] .. ':*', 'COUNT', 1000) " +
+            "    cursor = res[1] " +
+            "    for j = 1, #res[2], 2 do " +
+            "      local usersId = string.match(res[2][j], ':(%d+)$') " +
+            "      if res[2][j + 1] == '1' then redis.call('SADD', KEYS[1], usersId) " +
+            "      else redis.call('SREM', KEYS[1], usersId) end " +
+            "    end " +
+            "  until cursor == '0' " +
+            "end " +
+            "redis.call('SET', KEYS[2], redis.call('SCARD', KEYS[1]), 'EX', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // KEYS: liked, flushing, pending / ARGV: ttl, usersId, postingId...
+    // 아직 Likes 테이블에 반영되지 않은 변경 내역까지 덮어써서 적재
+    private static final RedisScript<Long> LOAD_USERS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('SADD', KEYS[1], '0') " +
+            "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "for k = 2, 3 do " +
+            "  local cursor = '0' " +
+            "  repeat " +
+            "    local res = redis.call('HSCAN', KEYS[k], cursor, 'MATCH', '*:' .. ARGV[2], 'COUNT', 1000) " +
+            "    cursor = res[1] " +
+            "    for j = 1, #res[2], 2 do " +
+            "      local postingId = string.match(res[2][j], '^(%d+):') " +
+            "      if res[2][j + 1] == '1' then redis.call('SADD', KEYS[1], postingId) " +
+            "      else redis.call('SREM', KEYS[1], postingId) end " +
+            "    end " +
+            "  until cursor == '0' " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // KEYS: users, count, pending, liked / ARGV: usersId, pending field, ttl, postingId
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return -1 end " +
+            "local liked = 1 " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('SREM', KEYS[1], ARGV[1]) redis.call('DECR', KEYS[2]) liked = 0 " +
+            "else " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) redis.call('INCR', KEYS[2]) " +
+            "end " +
+            "redis.call('HSET', KEYS[3], ARGV[2], liked) " +
+            "if redis.call('EXISTS', KEYS[4]) == 1 then " +
+            "  if liked == 1 then redis.call('SADD', KEYS[4], ARGV[4]) else redis.call('SREM', KEYS[4], ARGV[4]) end " +
+            "  redis.call('EXPIRE', KEYS[4], ARGV[3]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return liked", Long.class);
+
+    // KEYS: lock / ARGV: token, 자신이 잡은 락일 때만 해제
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean isLoaded(Long postingId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(countKey(postingId)));
+    }
+
+    public void load(Long postingId, Collection<Long> usersIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.getSeconds()));
+        args.add(String.valueOf(postingId));
+        usersIds.forEach(id -> args.add(String.valueOf(id)));
+        stringRedisTemplate.execute(LOAD_SCRIPT,
+                List.of(usersKey(postingId), countKey(postingId), FLUSHING_KEY, PENDING_KEY), args.toArray());
+    }
+
+    /**
+     * @return 1(좋아요), 0(좋아요 취소), NOT_LOADED(캐시 미적재)
+     */
+    public long toggle(Long postingId, Long usersId) {
+        Long result = stringRedisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(usersKey(postingId), countKey(postingId), PENDING_KEY, likedKey(usersId)),
+                String.valueOf(usersId), pendingField(postingId, usersId), String.valueOf(TTL.getSeconds()),
+                String.valueOf(postingId));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    public long getCount(Long postingId) {
+        String count = stringRedisTemplate.opsForValue().get(countKey(postingId));
+        return count == null ? NOT_LOADED : Math.max(Long.parseLong(count), 0L);
+    }
+
+    public void loadLiked(Long usersId, Collection<Long> postingIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.getSeconds()));
+        args.add(String.valueOf(usersId));
+        postingIds.forEach(id -> args.add(String.valueOf(id)));
+        stringRedisTemplate.execute(LOAD_USERS_SCRIPT, List.of(likedKey(usersId), FLUSHING_KEY, PENDING_KEY), args.toArray());
+    }
+
+    /**
+     * 한 번의 SMISMEMBER 로 게시글 목록의 좋아요 여부를 확인
+     * @return 좋아요한 게시글 id 집합, 유저별 집합이 적재되지 않았으면 null
+     */
+    public Set<Long> findLiked(Long usersId, Collection<Long> postingIds) {
+        Object[] members = new Object[postingIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        int i = 1;
+        for (Long postingId : postingIds)
+            members[i++] = String.valueOf(postingId);
+        Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(likedKey(usersId), members);
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER)))
+            return null;
+        Set<Long> liked = new HashSet<>();
+        for (Long postingId : postingIds) {
+            if (Boolean.TRUE.equals(result.get(String.valueOf(postingId))))
+                liked.add(postingId);
+        }
+        return liked;
+    }
+
+    public void evictLiked(Long usersId) {
+        stringRedisTemplate.delete(likedKey(usersId));
+    }
+
+    public void evict(Long postingId) {
+        stringRedisTemplate.delete(List.of(usersKey(postingId), countKey(postingId)));
+    }
+
+    /**
+     * @return 락을 잡았으면 해제할 때 쓸 토큰, 다른 노드가 잡고 있으면 null
+     */
+    public String tryFlushLock() {
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL)))
+            return token;
+        return null;
+    }
+
+    /**
+     * flush 가 락 만료 시간보다 오래 걸려 다른 노드가 락을 잡았으면 지우지 않음
+     */
+    public void releaseFlushLock(String token) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    }
+
+    /**
+     * 이전 flush 가 실패해 남은 내역이 있으면 그것부터, 아니면 pending 을 flushing 으로 옮겨 반환
+     * key: "postingId:usersId", value: "1"(좋아요) / "0"(취소)
+     */
+    public Map<String, String> drainPending() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(FLUSHING_KEY))) {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY)))
+                return Map.of();
+            stringRedisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+        }
+        return stringRedisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY);
+    }
+
+    public void completeFlush() {
+        stringRedisTemplate.delete(FLUSHING_KEY);
+    }
+
+    private String countKey(Long postingId) {
+        return POSTING_PREFIX + postingId + ":count";
+    }
+
+    private String usersKey(Long postingId) {
+        return POSTING_PREFIX + postingId + ":users";
+    }
+
+    private String likedKey(Long usersId) {
+        return USERS_PREFIX + usersId;
+    }
+
+    private String pendingField(Long postingId, Long usersId) {
+        return postingId + ":" + usersId;
+    }
+}
@@ -7,14 +7,23 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Likes, Long> {
-    Optional<Integer> countByPosting(Posting posting);
-
     Optional<Likes> findByUsers(Users users);
 
     @Query("SELECT l FROM Likes l WHERE l.users = :users AND l.posting = :posting " +
             "AND l.status = 'NORMAL'")
     Optional<Likes> findByUsersAndPosting(@Param("users") Users users, @Param("posting") Posting posting);
-}
\ No newline at end of file
+
+    @Query("SELECT l FROM Likes l WHERE l.users.id = :usersId AND l.posting.id = :postingId " +
+            "AND l.status = 'NORMAL'")
+    List<Likes> findByUsersIdAndPostingId(@Param("usersId") Long usersId, @Param("postingId") Long postingId);
+
+    @Query("SELECT l.users.id FROM Likes l WHERE l.posting.id = :postingId AND l.status = 'NORMAL'")
+    List<Long> findUsersIdByPostingId(@Param("postingId") Long postingId);
+
+    @Query("SELECT l.posting.id FROM Likes l WHERE l.users.id = :usersId AND l.status = 'NORMAL'")
+    List<Long> findPostingIdByUsersId(@Param("usersId") Long usersId);
+}
@@ -0,0 +1,76 @@
+package com.footstep.domain.posting.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footstep.domain.posting.dto.PlaceClusterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 유저별 지도 클러스터 캐시
+ * cluster:{usersId} 해시에 "{도시|all}:{정밀도}" 필드로 저장하고, 유저의 게시글이 바뀌면 해당 유저 키만 삭제
+ * 장소 병합처럼 여러 유저에 걸친 변경은 전체 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceClusterRedisRepository {
+
+    private static final String PREFIX = "cluster:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final TypeReference<List<PlaceClusterDto>> TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<List<PlaceClusterDto>> find(Long usersId, String field) {
+        Object value = stringRedisTemplate.opsForHash().get(key(usersId), field);
+        if (value == null)
+            return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue((String) value, TYPE));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void save(Long usersId, String field, List<PlaceClusterDto> clusters) {
+        try {
+            stringRedisTemplate.opsForHash().put(key(usersId), field, objectMapper.writeValueAsString(clusters));
+            stringRedisTemplate.expire(key(usersId), TTL);
+        } catch (JsonProcessingException ignored) {
+        }
+    }
+
+    public void evict(Long usersId) {
+        stringRedisTemplate.delete(key(usersId));
+    }
+
+    public void evictAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == 1000) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty())
+                stringRedisTemplate.delete(keys);
+        }
+    }
+
+    private String key(Long usersId) {
+        return PREFIX + usersId;
+    }
+}
@@ -1,11 +1,15 @@
 package com.footstep.domain.posting.repository;
 
+import com.footstep.domain.base.Status;
 import com.footstep.domain.posting.domain.place.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.List;
 
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRepositoryCustom {
 
-    Optional<Place> findByLatitudeAndLongitude(Double latitude, Double longitude);
+    List<Place> findByGeohashIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Place> findByStatusAndIdGreaterThanOrderByIdAsc(Status status, Long id, Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.posting.domain.place.Place;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlaceRepositoryCustom {
+
+    List<Place> findCandidates(Collection<String> geohashCells, double minLatitude, double maxLatitude,
+                               double minLongitude, double maxLongitude);
+}
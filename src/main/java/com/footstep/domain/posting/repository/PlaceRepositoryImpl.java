@@ -0,0 +1,32 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.base.Status;
+import com.footstep.domain.posting.domain.place.Place;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.footstep.domain.posting.domain.place.QPlace.place;
+
+@RequiredArgsConstructor
+public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Place> findCandidates(Collection<String> geohashCells, double minLatitude, double maxLatitude,
+                                      double minLongitude, double maxLongitude) {
+        BooleanBuilder inCells = new BooleanBuilder();
+        geohashCells.forEach(cell -> inCells.or(place.geohash.startsWith(cell)));
+        return queryFactory
+                .selectFrom(place)
+                .where(place.status.eq(Status.NORMAL),
+                        inCells,
+                        place.latitude.between(minLatitude, maxLatitude),
+                        place.longitude.between(minLongitude, maxLongitude))
+                .fetch();
+    }
+}
@@ -2,50 +2,108 @@ package com.footstep.domain.posting.repository;
 
 import com.footstep.domain.posting.domain.place.Place;
 import com.footstep.domain.posting.domain.posting.Posting;
+import com.footstep.domain.posting.dto.CalendarDto;
 import com.footstep.domain.users.domain.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostingRepository extends JpaRepository<Posting, Long> {
+public interface PostingRepository extends JpaRepository<Posting, Long>, PostingRepositoryCustom {
 
     @Query("SELECT p FROM Posting p WHERE p.status = 'NORMAL' AND p.users = :users AND " +
             "p.place = :place ORDER BY p.recordDate DESC")
     List<Posting> findByUsersAndPlaceOrderByRecordDateDesc(@Param("users") Users users, @Param("place") Place place);
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users " +
-            "WHERE p.status = 'NORMAL' AND p.users = :users ORDER BY p.recordDate DESC")
+    @Query("SELECT p FROM Posting p WHERE p.status = 'NORMAL' AND p.users = :users ORDER BY p.recordDate DESC")
     List<Posting> findByUsers(@Param("users") Users users);
 
-    @Query("SELECT p FROM Posting p WHERE p.status = 'NORMAL' AND p.users = :users")
-    List<Posting> findByUsersOrderByPlace(@Param("users") Users users);
+    @Query("SELECT p.users.id, p.place.id, p.place.city, COUNT(p) FROM Posting p WHERE p.status = 'NORMAL' " +
+            "AND NOT EXISTS (SELECT up FROM UsersPlace up WHERE up.users = p.users AND up.place = p.place) " +
+            "GROUP BY p.users.id, p.place.id, p.place.city")
+    List<Object[]> countByPlaceWithoutSummary();
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users " +
-            "WHERE p.status = 'NORMAL' AND p.id NOT IN :reported " +
-            "AND p.users != :users AND p.visibilityStatus = 'PUBLIC' ORDER BY p.recordDate DESC")
-    List<Posting> findAllFeed(@Param("reported") List<Long> reported, @Param("users") Users users);
+    @Query("SELECT new com.footstep.domain.posting.dto.CalendarDto(p.recordDate, COUNT(p)) FROM Posting p " +
+            "WHERE p.users.id = :usersId AND p.status = 'NORMAL' AND p.recordDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY p.recordDate ORDER BY p.recordDate DESC")
+    List<CalendarDto> countByRecordDate(@Param("usersId") Long usersId, @Param("startDate") Date startDate, @Param("endDate") Date endDate);
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users " +
-            "WHERE p.status = 'NORMAL' AND p.users = :users AND p.id NOT IN :reported " +
-            "AND p.visibilityStatus = 'PUBLIC' ORDER BY p.recordDate DESC")
-    List<Posting> findSpecificFeed(@Param("reported") List<Long> reported, @Param("users") Users users);
+    @Query("SELECT p FROM Posting p WHERE p.users = :users AND p.status = 'NORMAL' AND p.recordDate between :startDate AND :endDate")
+    List<Posting> findByStartDateAndEndDate(@Param("users") Users users, @Param("startDate") Date startDate, @Param("endDate") Date endDate);
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users " +
-            "WHERE p.status = 'NORMAL' AND p.users = :users AND p.recordDate = :date")
-    List<Posting> findByUsersAndRecordDate(@Param("users") Users users, @Param("date") Date date);
+    @Query("SELECT p.id, p.recordDate FROM Posting p WHERE p.status = 'NORMAL' AND p.visibilityStatus = 'PUBLIC' " +
+            "ORDER BY p.recordDate DESC, p.id DESC")
+    List<Object[]> findTimelineEntries(Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users " +
-            "WHERE p.status = 'NORMAL' AND p.users = :users AND p.place = :place AND p.recordDate = :date")
-    List<Posting> findByUsersAndRecordDateAndPlace(@Param("users") Users users,@Param("place") Place place ,@Param("date") Date date);
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.place = :to WHERE p.place = :from")
+    int changePlace(@Param("from") Place from, @Param("to") Place to);
 
-    @Query("SELECT DISTINCT p FROM Posting p LEFT JOIN FETCH p.likeList pl LEFT JOIN FETCH pl.users WHERE p.id = :postingId")
-    Optional<Posting> findById(@Param("postingId") Long postingId);
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.imageUrl = :imageUrl, p.mediumUrl = :mediumUrl, p.thumbnailUrl = :thumbnailUrl, " +
+            "p.blurHash = :blurHash, p.imageDigest = :imageDigest, p.imageStatus = 'READY' " +
+            "WHERE p.id = :postingId AND p.status = 'NORMAL'")
+    int completeImage(@Param("postingId") Long postingId, @Param("imageUrl") String imageUrl, @Param("mediumUrl") String mediumUrl,
+                      @Param("thumbnailUrl") String thumbnailUrl, @Param("blurHash") String blurHash,
+                      @Param("imageDigest") String imageDigest);
 
-    @Query("SELECT p FROM Posting p WHERE p.users = :users AND p.status = 'NORMAL' AND p.recordDate between :startDate AND :endDate")
-    List<Posting> findByStartDateAndEndDate(@Param("users") Users users, @Param("startDate") Date startDate, @Param("endDate") Date endDate);
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.imageStatus = 'FAILED' WHERE p.id = :postingId AND p.imageStatus = 'PENDING'")
+    int failImage(@Param("postingId") Long postingId);
+
+    /**
+     * 서버 재시작 등으로 업로드 작업이 사라져 PENDING 으로 남은 이미지
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.imageStatus = 'FAILED' WHERE p.imageStatus = 'PENDING' AND p.createdDate < :before")
+    int failStaleImages(@Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postingId")
+    int increaseLikeCount(@Param("postingId") Long postingId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postingId AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("postingId") Long postingId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END " +
+            "WHERE p.id = :postingId")
+    int addLikeCount(@Param("postingId") Long postingId, @Param("delta") Long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postingId")
+    int increaseCommentCount(@Param("postingId") Long postingId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Posting p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postingId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postingId") Long postingId);
+
+    @Query("SELECT MAX(p.id) FROM Posting p")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posting p SET " +
+            "p.like_count = (SELECT COUNT(*) FROM likes l WHERE l.posting_id = p.posting_id AND l.status = 'NORMAL'), " +
+            "p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.posting_id = p.posting_id AND c.status = 'NORMAL') " +
+            "WHERE p.posting_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
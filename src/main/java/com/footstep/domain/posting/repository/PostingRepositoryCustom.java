@@ -0,0 +1,36 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.posting.domain.place.City;
+import com.footstep.domain.posting.dto.AllPlaceDto;
+import com.footstep.domain.posting.dto.FeedListDto;
+import com.footstep.domain.posting.dto.PostingListDto;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 목록 조회용 DTO 프로젝션 쿼리 (QueryDSL)
+ * isLike 는 채우지 않으며 서비스에서 LikeService 로 채움
+ * 신고한 게시글은 Report (users_id, targetId) 인덱스를 타는 NOT EXISTS 로 제외
+ */
+public interface PostingRepositoryCustom {
+
+    List<FeedListDto> findFeedDtoPage(Long usersId, Date recordDate, Long postingId, int limit);
+
+    List<FeedListDto> findFeedDtosByIds(Collection<Long> postingIds);
+
+    List<PostingListDto> findGalleryDtos(Long usersId);
+
+    List<PostingListDto> findSpecificFeedDtos(Long usersId, Long targetUsersId);
+
+    List<PostingListDto> findPlaceDtos(Long usersId, Long placeId);
+
+    List<PostingListDto> findDesignatedDtos(Long usersId, Long placeId, Date date);
+
+    List<AllPlaceDto> findPlaceDtos(Long usersId, City city);
+
+    List<AllPlaceDto> findPlaceDtosInBounds(Long usersId, Collection<String> geohashCells,
+                                            double minLatitude, double maxLatitude,
+                                            double minLongitude, double maxLongitude);
+}
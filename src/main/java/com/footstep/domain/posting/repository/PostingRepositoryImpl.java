@@ -0,0 +1,180 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.base.Status;
+import com.footstep.domain.posting.domain.place.City;
+import com.footstep.domain.posting.domain.posting.QPosting;
+import com.footstep.domain.posting.domain.posting.VisibilityStatus;
+import com.footstep.domain.posting.dto.AllPlaceDto;
+import com.footstep.domain.posting.dto.FeedListDto;
+import com.footstep.domain.posting.dto.PostingListDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.footstep.domain.posting.domain.place.QPlace.place;
+import static com.footstep.domain.posting.domain.posting.QPosting.posting;
+import static com.footstep.domain.report.domain.QReport.report;
+import static com.footstep.domain.users.domain.QUsers.users;
+
+@RequiredArgsConstructor
+public class PostingRepositoryImpl implements PostingRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<FeedListDto> findFeedDtoPage(Long usersId, Date recordDate, Long postingId, int limit) {
+        return selectFeedListDto()
+                .where(posting.status.eq(Status.NORMAL),
+                        posting.visibilityStatus.eq(VisibilityStatus.PUBLIC),
+                        users.id.ne(usersId),
+                        notReported(posting, usersId),
+                        posting.recordDate.lt(recordDate)
+                                .or(posting.recordDate.eq(recordDate).and(posting.id.lt(postingId))))
+                .orderBy(posting.recordDate.desc(), posting.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FeedListDto> findFeedDtosByIds(Collection<Long> postingIds) {
+        return selectFeedListDto()
+                .where(posting.id.in(postingIds),
+                        posting.status.eq(Status.NORMAL),
+                        posting.visibilityStatus.eq(VisibilityStatus.PUBLIC))
+                .fetch();
+    }
+
+    @Override
+    public List<PostingListDto> findGalleryDtos(Long usersId) {
+        return findPostingListDtos(p -> new BooleanBuilder()
+                .and(p.status.eq(Status.NORMAL))
+                .and(p.users.id.eq(usersId)));
+    }
+
+    @Override
+    public List<PostingListDto> findSpecificFeedDtos(Long usersId, Long targetUsersId) {
+        return findPostingListDtos(p -> new BooleanBuilder()
+                .and(p.status.eq(Status.NORMAL))
+                .and(p.users.id.eq(targetUsersId))
+                .and(p.visibilityStatus.eq(VisibilityStatus.PUBLIC))
+                .and(notReported(p, usersId)));
+    }
+
+    @Override
+    public List<PostingListDto> findPlaceDtos(Long usersId, Long placeId) {
+        return findPostingListDtos(p -> new BooleanBuilder()
+                .and(p.status.eq(Status.NORMAL))
+                .and(p.users.id.eq(usersId))
+                .and(p.place.id.eq(placeId)));
+    }
+
+    @Override
+    public List<PostingListDto> findDesignatedDtos(Long usersId, Long placeId, Date date) {
+        return findPostingListDtos(p -> new BooleanBuilder()
+                .and(p.status.eq(Status.NORMAL))
+                .and(p.users.id.eq(usersId))
+                .and(placeId == null ? null : p.place.id.eq(placeId))
+                .and(p.recordDate.eq(date)));
+    }
+
+    /**
+     * geohash 셀 접두사(LIKE 'cell%')로 인덱스 범위를 좁힌 뒤 위도/경도로 정확히 거름
+     */
+    @Override
+    public List<AllPlaceDto> findPlaceDtos(Long usersId, City city) {
+        return queryFactory
+                .select(Projections.fields(AllPlaceDto.class,
+                        place.id.as("placeId"),
+                        place.name.as("placeName"),
+                        place.latitude,
+                        place.longitude))
+                .distinct()
+                .from(posting)
+                .join(posting.place, place)
+                .where(posting.status.eq(Status.NORMAL),
+                        posting.users.id.eq(usersId),
+                        city == null ? null : place.city.eq(city))
+                .fetch();
+    }
+
+    @Override
+    public List<AllPlaceDto> findPlaceDtosInBounds(Long usersId, Collection<String> geohashCells,
+                                                   double minLatitude, double maxLatitude,
+                                                   double minLongitude, double maxLongitude) {
+        BooleanBuilder inCells = new BooleanBuilder();
+        geohashCells.forEach(cell -> inCells.or(place.geohash.startsWith(cell)));
+        return queryFactory
+                .select(Projections.fields(AllPlaceDto.class,
+                        place.id.as("placeId"),
+                        place.name.as("placeName"),
+                        place.latitude,
+                        place.longitude))
+                .distinct()
+                .from(posting)
+                .join(posting.place, place)
+                .where(posting.status.eq(Status.NORMAL),
+                        posting.users.id.eq(usersId),
+                        inCells,
+                        place.latitude.between(minLatitude, maxLatitude),
+                        place.longitude.between(minLongitude, maxLongitude))
+                .fetch();
+    }
+
+    private JPAQuery<FeedListDto> selectFeedListDto() {
+        return queryFactory
+                .select(Projections.fields(FeedListDto.class,
+                        posting.id.as("postingId"),
+                        users.id.as("usersId"),
+                        users.nickname,
+                        posting.imageUrl,
+                        posting.mediumUrl.coalesce(posting.imageUrl).as("mediumUrl"),
+                        posting.blurHash,
+                        posting.title,
+                        posting.content,
+                        posting.likeCount.as("likes"),
+                        posting.commentCount,
+                        place.name.as("placeName"),
+                        posting.recordDate))
+                .from(posting)
+                .join(posting.users, users)
+                .join(posting.place, place);
+    }
+
+    /**
+     * 파생 이미지가 없는 이전 게시글은 thumbnailUrl, mediumUrl 에 원본 imageUrl 사용
+     * postingCount 는 채우지 않으며 서비스에서 조회 결과로 날짜별 개수를 셈
+     */
+    private List<PostingListDto> findPostingListDtos(Function<QPosting, Predicate> condition) {
+        return queryFactory
+                .select(Projections.fields(PostingListDto.class,
+                        place.name.as("placeName"),
+                        posting.recordDate,
+                        posting.imageUrl,
+                        posting.thumbnailUrl.coalesce(posting.imageUrl).as("thumbnailUrl"),
+                        posting.blurHash,
+                        posting.title,
+                        posting.likeCount.as("likes"),
+                        posting.id.as("postingId")))
+                .from(posting)
+                .join(posting.place, place)
+                .where(condition.apply(posting))
+                .orderBy(posting.recordDate.desc(), posting.id.desc())
+                .fetch();
+    }
+
+    private Predicate notReported(QPosting p, Long usersId) {
+        return JPAExpressions.selectOne()
+                .from(report)
+                .where(report.users.id.eq(usersId), report.targetId.eq(p.id))
+                .notExists();
+    }
+}
@@ -0,0 +1,43 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.posting.domain.image.StoredImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    Optional<StoredImage> findByDigest(String digest);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1 WHERE s.digest = :digest AND s.status = 'NORMAL'")
+    int increaseRefCount(@Param("digest") String digest);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1, s.releasedDate = :now " +
+            "WHERE s.digest = :digest AND s.refCount > 0")
+    int decreaseRefCount(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s FROM StoredImage s WHERE s.status = 'NORMAL' AND s.refCount <= 0 AND s.releasedDate < :before " +
+            "ORDER BY s.id")
+    List<StoredImage> findUnreferenced(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.status = 'EXPIRED' WHERE s.id = :id AND s.status = 'NORMAL' AND s.refCount <= 0")
+    int markDeleting(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.status = 'NORMAL' WHERE s.id = :id")
+    int restore(@Param("id") Long id);
+}
@@ -0,0 +1,152 @@
+package com.footstep.domain.posting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 전체 공개 게시글 타임라인 (Redis ZSET)
+ * score 는 (recordDate epochDay << 32) | postingId 로, 피드 정렬(recordDate DESC, id DESC)과 동일한 순서
+ * 최근 TIMELINE_SIZE 건만 유지하고 그 이후 페이지는 DB 로 조회
+ * 한 번이라도 잘라냈으면 남은 가장 작은 score 를 하한(floor)으로 기록하고, 하한보다 작은 항목은 추가하지 않음
+ * 따라서 하한 이상 구간은 DB 의 공개 게시글과 빠짐없이 일치하고, 하한이 없으면 타임라인이 피드 전체
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineRedisRepository {
+
+    public static final int TIMELINE_SIZE = 10000;
+
+    private static final String TIMELINE_KEY = "timeline:public";
+    private static final String READY_KEY = "timeline:public:ready";
+    private static final String FLOOR_KEY = "timeline:public:floor";
+    private static final String KEEP_FLOOR = "-";
+    private static final String NO_FLOOR = "";
+    private static final long ID_MASK = 0xFFFFFFFFL;
+    private static final long MAX_EPOCH_DAY = 1L << 20;
+
+    // KEYS: timeline, floor / ARGV: size, floor(KEEP_FLOOR 유지, NO_FLOOR 삭제, 그 외 새 하한), (postingId, score)...
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[2] == '' then redis.call('DEL', KEYS[2]) " +
+            "elseif ARGV[2] ~= '-' then " +
+            "  redis.call('SET', KEYS[2], ARGV[2]) " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[2]) " +
+            "end " +
+            "local floor = tonumber(redis.call('GET', KEYS[2])) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  if floor == nil or tonumber(ARGV[i + 1]) >= floor then redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) end " +
+            "end " +
+            "local removed = redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1)) " +
+            "if removed > 0 then " +
+            "  local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "  redis.call('SET', KEYS[2], lowest[2]) " +
+            "end " +
+            "return removed", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY));
+    }
+
+    public void markReady() {
+        stringRedisTemplate.opsForValue().set(READY_KEY, "1");
+    }
+
+    public void add(Long postingId, Date recordDate) {
+        if (!isScorable(recordDate, postingId))
+            return;
+        execute(KEEP_FLOOR, Map.of(postingId, recordDate));
+    }
+
+    /**
+     * DB 의 최근 공개 게시글로 다시 채움. 기존 항목은 유지하고 하한은 이번 조회 결과 기준으로 다시 정함
+     * @param truncated DB 에 entries 보다 오래된 공개 게시글이 더 있을 수 있으면 true
+     */
+    public void refill(Map<Long, Date> entries, boolean truncated) {
+        OptionalLong lowest = entries.entrySet().stream()
+                .filter(e -> isScorable(e.getValue(), e.getKey()))
+                .mapToLong(e -> score(e.getValue(), e.getKey()))
+                .min();
+        execute(truncated && lowest.isPresent() ? String.valueOf(lowest.getAsLong()) : NO_FLOOR, entries);
+    }
+
+    private void execute(String floor, Map<Long, Date> entries) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TIMELINE_SIZE));
+        args.add(floor);
+        entries.forEach((postingId, recordDate) -> {
+            if (isScorable(recordDate, postingId)) {
+                args.add(String.valueOf(postingId));
+                args.add(String.valueOf(score(recordDate, postingId)));
+            }
+        });
+        stringRedisTemplate.execute(ADD_SCRIPT, List.of(TIMELINE_KEY, FLOOR_KEY), args.toArray());
+    }
+
+    /**
+     * @return 잘라낸 적이 없으면(타임라인이 피드 전체) empty
+     */
+    public OptionalDouble findFloor() {
+        String floor = stringRedisTemplate.opsForValue().get(FLOOR_KEY);
+        return floor == null ? OptionalDouble.empty() : OptionalDouble.of(Double.parseDouble(floor));
+    }
+
+    /**
+     * 커서 다음 항목이 하한보다 작은 구간에 있는지 (타임라인만으로는 이어서 읽을 수 없음)
+     */
+    public static boolean isPastFloor(Date recordDate, Long postingId, double floor) {
+        return isScorable(recordDate, postingId) && score(recordDate, postingId) - 1 < floor;
+    }
+
+    public void remove(Collection<Long> postingIds) {
+        if (postingIds.isEmpty())
+            return;
+        stringRedisTemplate.opsForZSet().remove(TIMELINE_KEY, postingIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * (recordDate, postingId) 보다 뒤에 오는 게시글 id 를 순서대로 count 건 조회
+     * @return postingId -> score
+     */
+    public Map<Long, Double> findAfter(Date recordDate, Long postingId, int count) {
+        double max = isScorable(recordDate, postingId) ? score(recordDate, postingId) - 1 : Double.POSITIVE_INFINITY;
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(TIMELINE_KEY, Double.NEGATIVE_INFINITY, max, 0, count);
+        Map<Long, Double> result = new LinkedHashMap<>();
+        if (tuples != null)
+            tuples.forEach(t -> result.put(Long.valueOf(t.getValue()), t.getScore()));
+        return result;
+    }
+
+    public static Date recordDateOf(double score) {
+        return Date.valueOf(LocalDate.ofEpochDay((long) score >>> 32));
+    }
+
+    public static Long postingIdOf(double score) {
+        return (long) score & ID_MASK;
+    }
+
+    private static boolean isScorable(Date recordDate, Long postingId) {
+        long epochDay = recordDate.toLocalDate().toEpochDay();
+        return postingId >= 0 && postingId <= ID_MASK && epochDay >= 0 && epochDay < MAX_EPOCH_DAY;
+    }
+
+    private static long score(Date recordDate, Long postingId) {
+        return (recordDate.toLocalDate().toEpochDay() << 32) | postingId;
+    }
+}
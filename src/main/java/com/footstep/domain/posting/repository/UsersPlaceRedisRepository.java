@@ -0,0 +1,30 @@
+package com.footstep.domain.posting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UsersPlace 요약이 모든 유저에 대해 채워졌는지 여부
+ * 표시가 없으면 조회 시 Posting 에서 바로 장소를 찾음 (조회 경로에서는 요약을 만들지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsersPlaceRedisRepository {
+
+    private static final String READY_KEY = "users-place:ready";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY));
+    }
+
+    public void markReady() {
+        stringRedisTemplate.opsForValue().set(READY_KEY, "1");
+    }
+
+    public void unmarkReady() {
+        stringRedisTemplate.delete(READY_KEY);
+    }
+}
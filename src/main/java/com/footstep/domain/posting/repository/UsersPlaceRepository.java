@@ -0,0 +1,52 @@
+package com.footstep.domain.posting.repository;
+
+import com.footstep.domain.posting.domain.place.City;
+import com.footstep.domain.posting.domain.place.UsersPlace;
+import com.footstep.domain.posting.dto.AllPlaceDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UsersPlaceRepository extends JpaRepository<UsersPlace, Long> {
+
+    @Query("SELECT new com.footstep.domain.posting.dto.AllPlaceDto(pl.id, pl.name, pl.latitude, pl.longitude) " +
+            "FROM UsersPlace up JOIN up.place pl WHERE up.users.id = :usersId AND up.city = :city AND up.postingCount > 0")
+    List<AllPlaceDto> findPlaceDtosByCity(@Param("usersId") Long usersId, @Param("city") City city);
+
+    @Query("SELECT new com.footstep.domain.posting.dto.AllPlaceDto(pl.id, pl.name, pl.latitude, pl.longitude) " +
+            "FROM UsersPlace up JOIN up.place pl WHERE up.users.id = :usersId AND up.postingCount > 0")
+    List<AllPlaceDto> findPlaceDtos(@Param("usersId") Long usersId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UsersPlace up SET up.postingCount = up.postingCount + 1 WHERE up.users.id = :usersId AND up.place.id = :placeId")
+    int increasePostingCount(@Param("usersId") Long usersId, @Param("placeId") Long placeId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UsersPlace up SET up.postingCount = up.postingCount - 1 " +
+            "WHERE up.users.id = :usersId AND up.place.id = :placeId AND up.postingCount > 0")
+    int decreasePostingCount(@Param("usersId") Long usersId, @Param("placeId") Long placeId);
+
+    @Query("SELECT MAX(up.id) FROM UsersPlace up")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users_place up SET " +
+            "up.posting_count = (SELECT COUNT(*) FROM posting p WHERE p.users_id = up.users_id AND p.place_id = up.place_id " +
+            "AND p.status = 'NORMAL'), " +
+            "up.city = (SELECT pl.city FROM place pl WHERE pl.place_id = up.place_id) " +
+            "WHERE up.users_place_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UsersPlace up WHERE up.users.id = :usersId")
+    int deleteByUsersId(@Param("usersId") Long usersId);
+}
@@ -0,0 +1,50 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.repository.LikeRedisRepository;
+import com.footstep.domain.posting.service.LikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Redis 에 쌓인 좋아요 변경 내역을 주기적으로 Likes 테이블에 반영 (write-behind)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private final LikeRedisRepository likeRedisRepository;
+    private final LikeService likeService;
+
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        String lockToken = likeRedisRepository.tryFlushLock();
+        if (lockToken == null)
+            return;
+        try {
+            Map<String, String> pending = likeRedisRepository.drainPending();
+            if (pending.isEmpty())
+                return;
+            likeService.applyPendingLikes(pending);
+            likeRedisRepository.completeFlush();
+            log.debug("좋아요 변경 내역 {}건 반영", pending.size());
+        } finally {
+            likeRedisRepository.releaseFlushLock(lockToken);
+        }
+    }
+
+    /**
+     * 재시작 시 이전에 남은 변경 내역부터 반영
+     * 캐시는 다른 노드가 사용 중이고, 다시 적재할 때도 반영 전 내역을 덮어쓰므로 비우지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        flush();
+    }
+}
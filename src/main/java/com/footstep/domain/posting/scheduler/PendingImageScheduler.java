@@ -0,0 +1,39 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.repository.PostingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 작업은 메모리에만 있으므로 서버가 재시작되면 게시글 이미지가 PENDING 으로 남음
+ * 작성 후 일정 시간(재시도를 모두 마치고도 남는 시간)이 지나도 PENDING 인 이미지를 FAILED 로 바꿔 클라이언트가 다시 올릴 수 있게 함
+ * 늦게 끝난 업로드는 completeImage 가 그대로 READY 로 반영
+ */
+@Slf4j
+@Component
+public class PendingImageScheduler {
+
+    private final PostingRepository postingRepository;
+    private final Duration timeout;
+
+    public PendingImageScheduler(PostingRepository postingRepository,
+                                 @Value("${image.upload.pending-timeout-minutes:30}") long timeoutMinutes) {
+        this.postingRepository = postingRepository;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void failStale() {
+        int failed = postingRepository.failStaleImages(LocalDateTime.now().minus(timeout));
+        if (failed > 0)
+            log.warn("업로드가 끝나지 않은 게시글 이미지 실패 처리 - {}건", failed);
+    }
+}
@@ -0,0 +1,36 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.service.PlaceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * geohash 컬럼 추가 이전에 생성된 장소의 geohash 채우기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceGeohashScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PlaceService placeService;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int chunks = 0;
+        Long lastId = placeService.backfillGeohash(0L, CHUNK_SIZE);
+        while (lastId != null) {
+            chunks++;
+            lastId = placeService.backfillGeohash(lastId, CHUNK_SIZE);
+        }
+        if (chunks > 0)
+            log.info("장소 geohash 채우기 완료 - {}회 처리", chunks);
+    }
+}
@@ -0,0 +1,40 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.service.PlaceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌표 완전 일치로 장소를 찾던 시절 생긴 중복 장소 병합 (1회성)
+ * place.dedup.merge-on-startup=true 로 기동했을 때만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "place.dedup.merge-on-startup", havingValue = "true")
+public class PlaceMergeScheduler {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final PlaceService placeService;
+    private final UsersPlaceScheduler usersPlaceScheduler;
+
+    // geohash 채우기 이후에 실행
+    @Order
+    @EventListener(ApplicationReadyEvent.class)
+    public void merge() {
+        log.info("중복 장소 병합 시작");
+        Long lastId = placeService.mergeDuplicates(0L, CHUNK_SIZE);
+        while (lastId != null) {
+            lastId = placeService.mergeDuplicates(lastId, CHUNK_SIZE);
+        }
+        log.info("중복 장소 병합 완료");
+        // 병합으로 옮겨진 게시글을 유저별 장소 요약에 반영
+        usersPlaceScheduler.reconcile();
+    }
+}
@@ -0,0 +1,34 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.repository.PostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Posting.likeCount / commentCount 비정규화 카운터 보정
+ * Likes, Comment 테이블 기준으로 게시글 id 구간별 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostingCountScheduler {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final PostingRepository postingRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        long maxId = postingRepository.findMaxId().orElse(0L);
+        int updated = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += postingRepository.reconcileCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+        log.info("게시글 좋아요/댓글 수 보정 완료 - {}건", updated);
+    }
+}
@@ -0,0 +1,36 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.service.StoredImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제, 회원 탈퇴, 프로필 변경으로 참조가 사라진 이미지 정리
+ * 참조가 사라진 뒤 하루가 지난 이미지만 삭제 (그 사이 같은 이미지가 다시 올라오면 재사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoredImageGcScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long GRACE_DAYS = 1L;
+
+    private final StoredImageService storedImageService;
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void collect() {
+        LocalDateTime before = LocalDateTime.now().minusDays(GRACE_DAYS);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = storedImageService.collectGarbage(before, BATCH_SIZE);
+            total += deleted;
+        } while (deleted == BATCH_SIZE);
+        log.info("참조되지 않는 이미지 정리 완료 - {}건", total);
+    }
+}
@@ -0,0 +1,34 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 타임라인 재적재
+ * 비어 있으면(Redis 초기화, 최초 기동) 바로 채우고, 매일 한 번 전체를 다시 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineScheduler {
+
+    private final TimelineService timelineService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 600000)
+    public void rebuildIfCold() {
+        if (timelineService.isCold())
+            rebuild();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        int count = timelineService.rebuild();
+        log.info("공개 타임라인 재적재 완료 - {}건", count);
+    }
+}
@@ -0,0 +1,62 @@
+package com.footstep.domain.posting.scheduler;
+
+import com.footstep.domain.posting.domain.place.City;
+import com.footstep.domain.posting.domain.place.UsersPlace;
+import com.footstep.domain.posting.repository.PlaceRepository;
+import com.footstep.domain.posting.repository.PostingRepository;
+import com.footstep.domain.posting.repository.UsersPlaceRedisRepository;
+import com.footstep.domain.posting.repository.UsersPlaceRepository;
+import com.footstep.domain.users.repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * UsersPlace 요약 채우기 및 보정
+ * 요약이 없는 (유저, 장소) 행을 만들고, Posting 기준으로 id 구간별 게시글 수를 다시 계산
+ * 각 쿼리가 커밋된 뒤에 준비 표시를 남기므로 조회는 채우기가 끝나기 전까지 Posting 을 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsersPlaceScheduler {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final UsersPlaceRepository usersPlaceRepository;
+    private final UsersPlaceRedisRepository usersPlaceRedisRepository;
+    private final PostingRepository postingRepository;
+    private final PlaceRepository placeRepository;
+    private final UsersRepository usersRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        int created = 0;
+        for (Object[] row : postingRepository.countByPlaceWithoutSummary()) {
+            try {
+                usersPlaceRepository.save(UsersPlace.builder()
+                        .users(usersRepository.getReferenceById((Long) row[0]))
+                        .place(placeRepository.getReferenceById((Long) row[1]))
+                        .city((City) row[2])
+                        .postingCount((Long) row[3])
+                        .build());
+                created++;
+            } catch (DataIntegrityViolationException e) {
+                // 그 사이 게시글 작성으로 만들어진 행, 아래 재계산에서 맞춰짐
+            }
+        }
+
+        long maxId = usersPlaceRepository.findMaxId().orElse(0L);
+        int updated = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += usersPlaceRepository.reconcileCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+        usersPlaceRedisRepository.markReady();
+        log.info("유저별 장소 요약 보정 완료 - 생성 {}건, 재계산 {}건", created, updated);
+    }
+}
@@ -1,11 +1,11 @@
 package com.footstep.domain.posting.service;
 
 import com.footstep.domain.base.BaseException;
+import com.footstep.domain.base.Status;
 import com.footstep.domain.posting.domain.Comment;
 import com.footstep.domain.posting.domain.posting.Posting;
 import com.footstep.domain.posting.repository.CommentRepository;
 import com.footstep.domain.posting.repository.PostingRepository;
-import com.footstep.domain.users.domain.Users;
 import com.footstep.domain.users.repository.UsersRepository;
 import com.footstep.global.config.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
@@ -24,34 +24,34 @@ public class CommentService {
     private final UsersRepository usersRepository;
 
     public void addComment(String content, Long postingId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Posting posting = postingRepository.findById(postingId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
 
-        Comment comment = new Comment(content, currentUsers, posting);
+        Comment comment = new Comment(content, usersRepository.getReferenceById(usersId), posting);
         commentRepository.save(comment);
+        postingRepository.increaseCommentCount(postingId);
     }
 
     public void deleteComment(Long commentId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new BaseException(NOT_FOUND_COMMENT));
-        if (comment.getUsers().getId() != currentUsers.getId() &&
-                comment.getPosting().getUsers().getId() != currentUsers.getId()) {
+        if (!usersId.equals(comment.getUsers().getId()) &&
+                !usersId.equals(comment.getPosting().getUsers().getId())) {
             throw new BaseException(INVALID_USER_JWT);
         }
+        // 이미 삭제된 댓글이면 댓글 수를 다시 줄이지 않음
+        if (comment.getStatus() != Status.NORMAL)
+            return;
         comment.changeStatus();
         commentRepository.save(comment);
+        postingRepository.decreaseCommentCount(comment.getPosting().getId());
     }
 
     public String count(Long postingId) throws BaseException{
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
         Posting posting = postingRepository.findById(postingId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
-        Integer commentCount = commentRepository.countByPosting(postingId);
-        String result = String.valueOf(commentCount);
+        String result = String.valueOf(posting.getCommentCount());
         return result;
     }
 
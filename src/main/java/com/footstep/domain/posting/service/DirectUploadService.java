@@ -0,0 +1,80 @@
+package com.footstep.domain.posting.service;
+
+import com.footstep.domain.base.BaseException;
+import com.footstep.domain.posting.domain.image.ImageUploadToken;
+import com.footstep.domain.posting.dto.ImageUploadUrlDto;
+import com.footstep.domain.posting.dto.ImageUploadUrlRequestDto;
+import com.footstep.domain.posting.repository.ImageUploadTokenRedisRepository;
+import com.footstep.domain.posting.service.ImageUploadService.SpooledImage;
+import com.footstep.global.config.storage.BlobMetadata;
+import com.footstep.global.config.storage.BlobStore;
+import com.footstep.global.config.security.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.footstep.domain.base.BaseResponseStatus.*;
+
+/**
+ * 게시글 이미지 직접 업로드
+ * 1. 서명된 PUT URL 과 업로드 토큰 발급 → 클라이언트가 저장소에 바로 업로드
+ * 2. 게시글 작성 시 객체 키와 토큰만 전달 → 토큰 확인, HEAD 로 크기/형식 확인 후 업로드 작업에 넘김
+ * 이미지 내용이 요청 스레드를 거치지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+
+    private static final String UPLOAD_DIR = "footstep/upload/";
+
+    private final BlobStore blobStore;
+    private final ImageUploadService imageUploadService;
+    private final ImageUploadTokenRedisRepository imageUploadTokenRedisRepository;
+
+    // URL 만료 후 업로드를 마친 클라이언트가 게시글을 작성할 수 있도록 URL 보다 길게 유지
+    @Value("${image.direct-upload.token-ttl-seconds:1800}")
+    private long tokenTtlSeconds;
+
+    public ImageUploadUrlDto createUploadUrl(ImageUploadUrlRequestDto requestDto) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        String objectKey = UPLOAD_DIR + usersId + "/" + UUID.randomUUID();
+        String uploadUrl = blobStore.createUploadUrl(objectKey, requestDto.getContentType(), requestDto.getContentLength());
+        ImageUploadToken token = imageUploadTokenRedisRepository.save(ImageUploadToken.builder()
+                .id(UUID.randomUUID().toString())
+                .usersId(usersId)
+                .objectKey(objectKey)
+                .contentType(requestDto.getContentType())
+                .contentLength(requestDto.getContentLength())
+                .expiration(tokenTtlSeconds)
+                .build());
+        return new ImageUploadUrlDto(uploadUrl, objectKey, token.getId());
+    }
+
+    /**
+     * 업로드된 객체가 발급 정보와 같은지 확인하고 토큰을 소모
+     * 같은 토큰으로 동시에 들어온 요청은 토큰을 먼저 삭제한 한 요청만 통과하고, 업로드 작업 등록이 거절되면 토큰을 되돌림
+     * 게시글 저장 전에 호출해야 거절되었을 때 게시글이 저장되지 않음
+     */
+    public SpooledImage claim(Long usersId, String objectKey, String uploadToken) throws BaseException {
+        ImageUploadToken token = imageUploadTokenRedisRepository.findById(uploadToken)
+                .filter(t -> t.getUsersId().equals(usersId) && t.getObjectKey().equals(objectKey))
+                .orElseThrow(() -> new BaseException(INVALID_UPLOAD_TOKEN));
+        BlobMetadata metadata = blobStore.stat(objectKey)
+                .orElseThrow(() -> new BaseException(NOT_FOUND_UPLOADED_IMAGE));
+        if (metadata.getContentLength() != token.getContentLength()
+                || !Objects.equals(metadata.getContentType(), token.getContentType()))
+            throw new BaseException(POSTING_INVALID_IMAGE);
+
+        if (!imageUploadTokenRedisRepository.consume(uploadToken))
+            throw new BaseException(INVALID_UPLOAD_TOKEN);
+        try {
+            return imageUploadService.stage(objectKey, token.getContentType());
+        } catch (BaseException e) {
+            imageUploadTokenRedisRepository.save(token);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.footstep.domain.posting.service;
+
+import com.footstep.domain.base.BaseException;
+import com.footstep.domain.posting.domain.image.StoredImage;
+import com.footstep.domain.posting.repository.PostingRepository;
+import com.footstep.domain.posting.util.ImageVariants;
+import com.footstep.domain.users.repository.UsersRepository;
+import com.footstep.global.config.async.AsyncConfig;
+import com.footstep.global.config.storage.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import static com.footstep.domain.base.BaseResponseStatus.IMAGE_UPLOAD_BUSY;
+
+/**
+ * 트랜잭션과 분리된 이미지 업로드
+ * 요청 스레드에서는 임시 파일로 옮기면서 SHA-256 을 계산하고, 트랜잭션이 커밋된 뒤 전용 executor 에서 크기별 파생본 생성, 저장소(BlobStore) 업로드 후 결과를 반영
+ * 객체 키는 해시로 정해지며 이미 저장된 이미지면 업로드 없이 참조 수만 늘려 재사용 (StoredImage)
+ * 대기 중인 업로드 수를 permit 으로 제한해 초과 요청은 IMAGE_UPLOAD_BUSY 로 거절 (back-pressure)
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+
+    private final BlobStore blobStore;
+    private final StoredImageService storedImageService;
+    private final PostingRepository postingRepository;
+    private final UsersRepository usersRepository;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter postingFailedCounter;
+    private final Counter profileFailedCounter;
+
+    public ImageUploadService(BlobStore blobStore,
+                              StoredImageService storedImageService,
+                              PostingRepository postingRepository,
+                              UsersRepository usersRepository,
+                              @Qualifier(AsyncConfig.IMAGE_UPLOAD_EXECUTOR) ThreadPoolTaskExecutor imageUploadExecutor,
+                              AsyncConfig asyncConfig,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.upload.max-attempts:3}") int maxAttempts,
+                              @Value("${image.upload.backoff-millis:1000}") long backoffMillis) {
+        this.blobStore = blobStore;
+        this.storedImageService = storedImageService;
+        this.postingRepository = postingRepository;
+        this.usersRepository = usersRepository;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.permits = new Semaphore(asyncConfig.getImageUploadMaxPending() + imageUploadExecutor.getMaxPoolSize());
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.postingFailedCounter = Counter.builder("image.upload.failed").tag("target", "posting").register(meterRegistry);
+        this.profileFailedCounter = Counter.builder("image.upload.failed").tag("target", "profile").register(meterRegistry);
+    }
+
+    /**
+     * 업로드 파일을 임시 디렉터리로 옮기고 트랜잭션 종료 시점에 업로드(커밋) 또는 정리(롤백)하도록 등록
+     * DB 변경 전에 호출해야 거절되었을 때 게시글이 저장되지 않음
+     */
+    public SpooledImage spool(MultipartFile multipartFile) throws BaseException, IOException {
+        if (!permits.tryAcquire())
+            throw new BaseException(IMAGE_UPLOAD_BUSY);
+        File file = null;
+        String digest;
+        try {
+            file = Files.createTempFile("footstep-image-", null).toFile();
+            digest = copyWithDigest(multipartFile, file);
+        } catch (IOException | RuntimeException e) {
+            if (file != null)
+                removeFile(file);
+            permits.release();
+            throw e;
+        }
+
+        return register(new SpooledImage(file, digest, multipartFile.getOriginalFilename(), multipartFile.getContentType(), null));
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올린 객체(stagedKey)를 spool 과 같은 방식으로 등록
+     * 요청 스레드는 이미지 내용을 다루지 않고, 업로드 작업에서 내려받아 해시 계산, 파생본 생성 후 임시 객체는 삭제
+     */
+    public SpooledImage stage(String stagedKey, String contentType) throws BaseException {
+        if (!permits.tryAcquire())
+            throw new BaseException(IMAGE_UPLOAD_BUSY);
+        return register(new SpooledImage(null, null, stagedKey, contentType, stagedKey));
+    }
+
+    private SpooledImage register(SpooledImage image) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED && image.onUploaded != null)
+                        submit(image);
+                    else
+                        discard(image);
+                }
+            });
+        } else {
+            image.immediate = true;
+        }
+        return image;
+    }
+
+    /**
+     * 업로드하는 동안 게시글이 삭제되었으면 방금 얻은 참조를 바로 반납
+     */
+    public void uploadPostingImage(Long postingId, SpooledImage image) {
+        bind(image, stored -> {
+                    if (postingRepository.completeImage(postingId, stored.getImageUrl(), stored.getMediumUrl(),
+                            stored.getThumbnailUrl(), stored.getBlurHash(), stored.getDigest()) == 0)
+                        storedImageService.release(stored.getDigest());
+                },
+                () -> {
+                    postingFailedCounter.increment();
+                    postingRepository.failImage(postingId);
+                });
+    }
+
+    /**
+     * 이전 프로필 이미지 참조는 교체 후 반납
+     * 실패하면 기존 프로필 이미지가 유지되므로 로그와 지표로만 남김
+     */
+    public void uploadProfileImage(Long usersId, SpooledImage image) {
+        bind(image, stored -> {
+            String before = usersRepository.findProfileImageDigest(usersId);
+            usersRepository.changeProfileImage(usersId, stored.getMediumUrl(), stored.getDigest());
+            storedImageService.release(before);
+        }, () -> {
+            profileFailedCounter.increment();
+            log.error("프로필 이미지 업로드 실패, 기존 이미지 유지 - usersId: {}, {}", usersId, image.getOriginalName());
+        });
+    }
+
+    private void bind(SpooledImage image, Consumer<StoredImage> onUploaded, Runnable onFailed) {
+        image.onUploaded = onUploaded;
+        image.onFailed = onFailed;
+        if (image.immediate)
+            submit(image);
+    }
+
+    private void submit(SpooledImage image) {
+        try {
+            imageUploadExecutor.execute(() -> upload(image));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 업로드 작업 등록 실패 - {}", image.getOriginalName(), e);
+            image.onFailed.run();
+            discard(image);
+        }
+    }
+
+    /**
+     * 저장(참조 획득)만 재시도하고 결과 반영은 한 번만 실행
+     * 반영이 실패하면 얻은 참조를 반납해 참조 수가 새지 않도록 함
+     */
+    private void upload(SpooledImage image) {
+        try {
+            StoredImage stored = storeWithRetry(image);
+            if (stored == null) {
+                image.onFailed.run();
+                return;
+            }
+            try {
+                image.onUploaded.accept(stored);
+            } catch (RuntimeException e) {
+                log.error("이미지 업로드 결과 반영 실패 - {}", image.getOriginalName(), e);
+                storedImageService.release(stored.getDigest());
+                image.onFailed.run();
+            }
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드 실패 처리 중 오류 - {}", image.getOriginalName(), e);
+        } finally {
+            discard(image);
+        }
+    }
+
+    /**
+     * @return 재시도 후에도 실패하면 null
+     */
+    private StoredImage storeWithRetry(SpooledImage image) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return store(image);
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 업로드 실패 ({}/{}) - {}", attempt, maxAttempts, image.getOriginalName(), e);
+            }
+            if (attempt < maxAttempts && !sleep(backoffMillis << (attempt - 1)))
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * 같은 해시의 이미지가 이미 있으면 참조만 얻고, 없으면 파생본을 만들어 해시 기반 키로 업로드 후 등록
+     * 같은 이미지가 동시에 등록된 경우 먼저 등록된 항목을 재사용 (같은 키에 같은 내용을 덮어쓰므로 객체는 그대로 유효)
+     */
+    private StoredImage store(SpooledImage image) throws IOException {
+        if (image.getFile() == null)
+            fetchStaged(image);
+        Optional<StoredImage> stored = storedImageService.acquire(image.getDigest());
+        if (stored.isPresent())
+            return stored.get();
+
+        ImageVariants variants = createVariants(image);
+        try {
+            StoredImage uploaded = variants == null ? putOriginal(image) : putVariants(image.getDigest(), variants);
+            try {
+                return storedImageService.register(uploaded);
+            } catch (DataIntegrityViolationException e) {
+                return storedImageService.acquire(image.getDigest()).orElseThrow(() -> e);
+            }
+        } finally {
+            if (variants != null)
+                variants.getFiles().forEach(this::removeFile);
+        }
+    }
+
+    /**
+     * 디코딩할 수 없는 형식(HEIC 등)이면 원본만 업로드하도록 null 반환
+     */
+    private ImageVariants createVariants(SpooledImage image) {
+        try {
+            return ImageVariants.create(image.getFile()).orElse(null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("파생 이미지 생성 실패, 원본만 업로드 - {}", image.getOriginalName(), e);
+            return null;
+        }
+    }
+
+    private StoredImage putOriginal(SpooledImage image) throws IOException {
+        String url = blobStore.put(image.getFile(), StoredImage.originalKey(image.getDigest()), image.getContentType());
+        return StoredImage.builder()
+                .digest(image.getDigest())
+                .imageUrl(url)
+                .mediumUrl(url)
+                .thumbnailUrl(url)
+                .hasVariants(false)
+                .build();
+    }
+
+    private StoredImage putVariants(String digest, ImageVariants variants) throws IOException {
+        return StoredImage.builder()
+                .digest(digest)
+                .imageUrl(blobStore.put(variants.getFull(), StoredImage.fullKey(digest), ImageVariants.CONTENT_TYPE))
+                .mediumUrl(blobStore.put(variants.getMedium(), StoredImage.mediumKey(digest), ImageVariants.CONTENT_TYPE))
+                .thumbnailUrl(blobStore.put(variants.getThumb(), StoredImage.thumbnailKey(digest), ImageVariants.CONTENT_TYPE))
+                .blurHash(variants.getBlurHash())
+                .hasVariants(true)
+                .build();
+    }
+
+    private void fetchStaged(SpooledImage image) throws IOException {
+        File file = Files.createTempFile("footstep-image-", null).toFile();
+        MessageDigest messageDigest = sha256();
+        try (WritableByteChannel target = Channels.newChannel(new DigestOutputStream(new FileOutputStream(file), messageDigest))) {
+            blobStore.read(image.getStagedKey(), target);
+        } catch (IOException | RuntimeException e) {
+            removeFile(file);
+            throw e;
+        }
+        image.digest = HexFormat.of().formatHex(messageDigest.digest());
+        image.file = file;
+    }
+
+    private String copyWithDigest(MultipartFile multipartFile, File file) throws IOException {
+        MessageDigest messageDigest = sha256();
+        try (InputStream in = new DigestInputStream(multipartFile.getInputStream(), messageDigest)) {
+            Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void discard(SpooledImage image) {
+        if (image.getFile() != null)
+            removeFile(image.getFile());
+        if (image.getStagedKey() != null)
+            removeStaged(image.getStagedKey());
+        permits.release();
+    }
+
+    /**
+     * 지우지 못한 임시 객체는 저장소 수명 주기 규칙(S3Config 참고)으로 정리
+     */
+    private void removeStaged(String stagedKey) {
+        try {
+            blobStore.delete(stagedKey);
+        } catch (RuntimeException e) {
+            log.info("임시 업로드 객체가 삭제되지 못했습니다. - {}", stagedKey, e);
+        }
+    }
+
+    private void removeFile(File file) {
+        if (file.exists() && !file.delete())
+            log.info("파일이 삭제되지 못했습니다. - {}", file.getPath());
+    }
+
+    public static final class SpooledImage {
+
+        @Getter
+        private volatile File file;
+        @Getter
+        private volatile String digest;
+        @Getter
+        private final String originalName;
+        @Getter
+        private final String contentType;
+        @Getter
+        private final String stagedKey;
+        private volatile Consumer<StoredImage> onUploaded;
+        private volatile Runnable onFailed;
+        private volatile boolean immediate;
+
+        private SpooledImage(File file, String digest, String originalName, String contentType, String stagedKey) {
+            this.file = file;
+            this.digest = digest;
+            this.originalName = originalName;
+            this.contentType = contentType;
+            this.stagedKey = stagedKey;
+        }
+    }
+}
@@ -3,19 +3,21 @@ package com.footstep.domain.posting.service;
 
 import com.footstep.domain.base.BaseException;
 import com.footstep.domain.posting.domain.Likes;
-import com.footstep.domain.posting.domain.posting.Posting;
+import com.footstep.domain.posting.dto.PostingListDto;
+import com.footstep.domain.posting.repository.LikeRedisRepository;
 import com.footstep.domain.posting.repository.LikeRepository;
 import com.footstep.domain.posting.repository.PostingRepository;
-import com.footstep.domain.users.domain.Users;
 import com.footstep.domain.users.repository.UsersRepository;
 import com.footstep.global.config.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import static com.footstep.domain.base.BaseResponseStatus.*;
 
@@ -24,30 +26,78 @@ import static com.footstep.domain.base.BaseResponseStatus.*;
 @Service
 public class LikeService {
     private final LikeRepository likeRepository;
+    private final LikeRedisRepository likeRedisRepository;
     private final PostingRepository postingRepository;
     private final UsersRepository usersRepository;
 
     public Long like(Long postingId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        Posting posting = postingRepository.findById(postingId)
-                .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
-        Optional<Likes> isLike = likeRepository.findByUsersAndPosting(currentUsers, posting);
-        if (!isLike.isEmpty()) {
-            isLike.get().removeLikes();
-            likeRepository.save(isLike.get());
-            return 0L;
-        } else {
-            likeRepository.save(new Likes(currentUsers, posting));
-            return 1L;
+        Long usersId = SecurityUtils.getLoggedUserId();
+        long result = likeRedisRepository.toggle(postingId, usersId);
+        if (result == LikeRedisRepository.NOT_LOADED) {
+            loadLikes(postingId);
+            result = likeRedisRepository.toggle(postingId, usersId);
         }
+        return result;
     }
 
+    @Transactional(readOnly = true)
     public String count(Long postingId) throws BaseException{
-        Posting posting = postingRepository.findById(postingId)
-                .orElseThrow(()->new BaseException(NOT_FOUND_POSTING));
-        Integer likeCount = likeRepository.countByPosting(posting).orElse(0);
+        long likeCount = likeRedisRepository.getCount(postingId);
+        if (likeCount == LikeRedisRepository.NOT_LOADED) {
+            loadLikes(postingId);
+            likeCount = likeRedisRepository.getCount(postingId);
+        }
         String result = String.valueOf(likeCount);
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시글 목록 중 해당 유저가 좋아요한 게시글 id 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPostingIds(Long usersId, Collection<Long> postingIds) {
+        if (postingIds.isEmpty())
+            return Set.of();
+        Set<Long> liked = likeRedisRepository.findLiked(usersId, postingIds);
+        if (liked == null) {
+            likeRedisRepository.loadLiked(usersId, likeRepository.findPostingIdByUsersId(usersId));
+            liked = likeRedisRepository.findLiked(usersId, postingIds);
+        }
+        return liked == null ? Set.of() : liked;
+    }
+
+    @Transactional(readOnly = true)
+    public void fillIsLike(Long usersId, List<PostingListDto> postingListDto) {
+        Set<Long> liked = findLikedPostingIds(usersId,
+                postingListDto.stream().map(PostingListDto::getPostingId).toList());
+        postingListDto.forEach(dto -> dto.setIsLike(liked.contains(dto.getPostingId()) ? 1L : 0L));
+    }
+
+    public void applyPendingLikes(Map<String, String> pending) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            String[] ids = entry.getKey().split(":");
+            Long postingId = Long.valueOf(ids[0]);
+            Long usersId = Long.valueOf(ids[1]);
+            List<Likes> likes = likeRepository.findByUsersIdAndPostingId(usersId, postingId);
+            long delta = 0;
+            if ("1".equals(entry.getValue()) && likes.isEmpty()) {
+                likeRepository.save(new Likes(usersRepository.getReferenceById(usersId),
+                        postingRepository.getReferenceById(postingId)));
+                delta = 1;
+            } else if ("0".equals(entry.getValue())) {
+                likes.forEach(Likes::removeLikes);
+                delta = -likes.size();
+            }
+            if (delta != 0)
+                deltas.merge(postingId, delta, Long::sum);
+        }
+        deltas.forEach(postingRepository::addLikeCount);
+    }
+
+    private void loadLikes(Long postingId) throws BaseException {
+        if (!postingRepository.existsById(postingId))
+            throw new BaseException(NOT_FOUND_POSTING);
+        likeRedisRepository.load(postingId, likeRepository.findUsersIdByPostingId(postingId));
+    }
+}
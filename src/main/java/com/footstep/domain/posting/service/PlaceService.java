@@ -7,19 +7,24 @@ import com.footstep.domain.posting.domain.place.City;
 import com.footstep.domain.posting.domain.place.Place;
 import com.footstep.domain.posting.domain.posting.Posting;
 import com.footstep.domain.posting.dto.*;
+import com.footstep.domain.posting.repository.PlaceClusterRedisRepository;
 import com.footstep.domain.posting.repository.PlaceRepository;
 import com.footstep.domain.posting.repository.PostingRepository;
+import com.footstep.domain.posting.util.GalleryCalendar;
 import com.footstep.domain.posting.util.CityConverter;
-import com.footstep.domain.users.domain.Users;
+import com.footstep.domain.posting.util.GeoHash;
 import com.footstep.domain.users.repository.UsersRepository;
 import com.footstep.global.config.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Date;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 
 import java.util.*;
@@ -30,9 +35,19 @@ import java.util.stream.Collectors;
 @Transactional
 public class PlaceService {
 
+    // 이 줌 레벨 이상에서는 묶지 않고 장소를 그대로 반환
+    private static final int RAW_PLACE_ZOOM = 16;
+
     private final PlaceRepository placeRepository;
+    private final PlaceClusterRedisRepository placeClusterRedisRepository;
     private final PostingRepository postingRepository;
     private final UsersRepository usersRepository;
+    private final LikeService likeService;
+    private final UsersPlaceService usersPlaceService;
+
+    // 같은 장소로 볼 최대 거리(m)
+    @Value("${place.dedup.radius-meters:30}")
+    private double radiusMeters;
 
     public Place createPlace(CreatePlaceDto createPlaceDto) {
         Place place = Place.builder()
@@ -48,90 +63,99 @@ public class PlaceService {
         return place;
     }
 
+    /**
+     * 반경 안에 있는 같은 이름의 장소 중 가장 가까운 장소 (이름이 없으면 이름 무관)
+     */
     public Optional<Place> getPlace(CreatePlaceDto createPlaceDto) {
-        return placeRepository
-                .findByLatitudeAndLongitude(createPlaceDto.getLatitude(), createPlaceDto.getLongitude());
+        Double latitude = createPlaceDto.getLatitude();
+        Double longitude = createPlaceDto.getLongitude();
+        if (latitude == null || longitude == null)
+            return Optional.empty();
+        return findWithinRadius(latitude, longitude, createPlaceDto.getName()).stream()
+                .min(Comparator.comparingDouble(p -> GeoHash.distanceMeters(latitude, longitude, p.getLatitude(), p.getLongitude())));
+    }
+
+    /**
+     * 반경 안의 중복 장소를 id 가 가장 작은 장소로 합침 (게시글 장소 변경 후 중복 장소 만료 처리)
+     * @return 마지막으로 처리한 장소 id, 더 없으면 null
+     */
+    public Long mergeDuplicates(Long afterId, int size) {
+        List<Place> places = placeRepository.findByStatusAndIdGreaterThanOrderByIdAsc(Status.NORMAL, afterId, PageRequest.of(0, size));
+        if (places.isEmpty())
+            return null;
+        boolean merged = false;
+        for (Place place : places) {
+            if (place.getStatus() != Status.NORMAL || place.getLatitude() == null || place.getLongitude() == null)
+                continue;
+            for (Place duplicate : findWithinRadius(place.getLatitude(), place.getLongitude(), place.getName())) {
+                if (duplicate.getId() <= place.getId())
+                    continue;
+                postingRepository.changePlace(duplicate, place);
+                duplicate.expire();
+                merged = true;
+            }
+        }
+        if (merged) {
+            usersPlaceService.resetAll();
+            afterCommit(placeClusterRedisRepository::evictAll);
+        }
+        return places.get(places.size() - 1).getId();
+    }
+
+    private List<Place> findWithinRadius(double latitude, double longitude, String name) {
+        double[] bounds = GeoHash.boundsOf(latitude, longitude, radiusMeters);
+        Set<String> cells = GeoHash.coveringCells(bounds[0], bounds[1], bounds[2], bounds[3],
+                GeoHash.precisionForRadius(latitude, radiusMeters));
+        return placeRepository.findCandidates(cells, bounds[0], bounds[1], bounds[2], bounds[3]).stream()
+                .filter(p -> name == null || name.equals(p.getName()))
+                .filter(p -> GeoHash.distanceMeters(latitude, longitude, p.getLatitude(), p.getLongitude()) <= radiusMeters)
+                .collect(Collectors.toList());
     }
 
     public SpecificPlaceDto viewSpecificPlace(Long placeId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_PLACE));
-        List<Posting> postings = postingRepository.findByUsersAndPlaceOrderByRecordDateDesc(currentUsers, place);
+        List<Posting> postings = postingRepository.findByUsersAndPlaceOrderByRecordDateDesc(usersRepository.getReferenceById(usersId), place);
         if (postings.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
+        Posting latest = postings.get(0);
         return SpecificPlaceDto.builder()
                 .name(place.getName())
-                .imageUrl(postings.get(0).getImageUrl())
+                .imageUrl(latest.getImageUrl())
+                .thumbnailUrl(latest.getThumbnailUrl() == null ? latest.getImageUrl() : latest.getThumbnailUrl())
+                .blurHash(latest.getBlurHash())
                 .postingCount(postings.size())
                 .build();
     }
 
     public PostingListResponseDto viewSpecificPlaceList(Long placeId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_PLACE));
-        List<Posting> postings = postingRepository.findByUsersAndPlaceOrderByRecordDateDesc(currentUsers, place);
-        if (postings.isEmpty())
+        List<PostingListDto> postingListDto = postingRepository.findPlaceDtos(usersId, place.getId());
+        if (postingListDto.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
-        List<Date> dates = postings.stream().map(Posting::getRecordDate).toList();
-
-        List<PostingListDto> postingListDto = new ArrayList<>();
-        for (Posting posting : postings) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(currentUsers)) {
-                isLike = 1L;
-            }
-            PostingListDto dto = PostingListDto.builder()
-                    .placeName(place.getName())
-                    .recordDate(posting.getRecordDate())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .postingCount((long) Collections.frequency(dates, posting.getRecordDate()))
-                    .postingId(posting.getId())
-                    .isLike(isLike)
-                    .build();
-            postingListDto.add(dto);
-        }
-        return new PostingListResponseDto(postingListDto, (long) new HashSet<>(dates).stream().toList().size());
+        likeService.fillIsLike(usersId, postingListDto);
+        return new PostingListResponseDto(postingListDto, GalleryCalendar.fillPostingCount(postingListDto));
     }
 
     public List<AllPlaceDto> viewSpecificCity(String cityName) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         City city = City.getByName(cityName)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_CITY));
-        List<Posting> postings = postingRepository.findByUsersOrderByPlace(currentUsers);
-
-        List<AllPlaceDto> allPlaceDto = new ArrayList<>();
-        for (Posting posting : postings) {
-            if (posting.getPlace().getCity() == city) {
-                AllPlaceDto dto = AllPlaceDto.builder()
-                        .placeId(posting.getPlace().getId())
-                        .placeName(posting.getPlace().getName())
-                        .latitude(posting.getPlace().getLatitude())
-                        .longitude(posting.getPlace().getLongitude())
-                        .build();
-                allPlaceDto.add(dto);
-            }
-        }
-        return allPlaceDto.stream().distinct().collect(Collectors.toList());
+        return usersPlaceService.findPlaces(usersId, city);
     }
 
     public PlaceLocationDto viewPlaceLocation(Double latitude, Double longitude) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         CreatePlaceDto placeDto = CreatePlaceDto.builder()
                 .latitude(latitude)
                 .longitude(longitude)
                 .build();
         Place place = getPlace(placeDto)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_PLACE));
-        List<Posting> postings = postingRepository.findByUsersAndPlaceOrderByRecordDateDesc(currentUsers, place);
+        List<Posting> postings = postingRepository.findByUsersAndPlaceOrderByRecordDateDesc(usersRepository.getReferenceById(usersId), place);
         if (postings.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
         return PlaceLocationDto.builder()
@@ -143,58 +167,115 @@ public class PlaceService {
     }
 
     public List<AllPlaceDto> viewAllPlace() throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Posting> postings = postingRepository.findByUsersOrderByPlace(currentUsers);
-        List<AllPlaceDto> allPlaceDto = new ArrayList<>();
-        for (Posting posting : postings) {
-            AllPlaceDto dto = AllPlaceDto.builder()
-                    .placeId(posting.getPlace().getId())
-                    .placeName(posting.getPlace().getName())
-                    .latitude(posting.getPlace().getLatitude())
-                    .longitude(posting.getPlace().getLongitude())
-                    .build();
-            allPlaceDto.add(dto);
+        Long usersId = SecurityUtils.getLoggedUserId();
+        return usersPlaceService.findPlaces(usersId, null);
+    }
+
+    public List<PlaceClusterDto> viewAllPlaceCluster(int zoom) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        return clusterPlaces(usersId, null, zoom);
+    }
+
+    public List<PlaceClusterDto> viewSpecificCityCluster(String cityName, int zoom) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        City city = City.getByName(cityName)
+                .orElseThrow(() -> new BaseException(NOT_FOUND_CITY));
+        return clusterPlaces(usersId, city, zoom);
+    }
+
+    /**
+     * 커밋 전에 지우면 그 사이 조회가 변경 전 장소로 캐시를 다시 채우므로 커밋된 뒤에 삭제
+     */
+    public void evictPlaceCluster(Long usersId) {
+        afterCommit(() -> placeClusterRedisRepository.evict(usersId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 줌 레벨에 맞는 geohash 셀 단위로 장소를 묶어 셀별 중심 좌표와 장소 수를 반환 (유저별 캐시)
+     */
+    private List<PlaceClusterDto> clusterPlaces(Long usersId, City city, int zoom) {
+        int precision = zoom >= RAW_PLACE_ZOOM ? GeoHash.MAX_PRECISION : GeoHash.precisionForZoom(zoom);
+        String field = (city == null ? "all" : city.name()) + ":" + precision;
+        Optional<List<PlaceClusterDto>> cached = placeClusterRedisRepository.find(usersId, field);
+        if (cached.isPresent())
+            return cached.get();
+
+        Map<String, List<AllPlaceDto>> cells = new LinkedHashMap<>();
+        for (AllPlaceDto place : usersPlaceService.findPlaces(usersId, city)) {
+            if (place.getLatitude() == null || place.getLongitude() == null)
+                continue;
+            cells.computeIfAbsent(GeoHash.encode(place.getLatitude(), place.getLongitude(), precision), k -> new ArrayList<>())
+                    .add(place);
+        }
+        List<PlaceClusterDto> clusters = new ArrayList<>();
+        for (Map.Entry<String, List<AllPlaceDto>> cell : cells.entrySet()) {
+            List<AllPlaceDto> places = cell.getValue();
+            AllPlaceDto single = places.size() == 1 ? places.get(0) : null;
+            clusters.add(PlaceClusterDto.builder()
+                    .cell(cell.getKey())
+                    .latitude(places.stream().mapToDouble(AllPlaceDto::getLatitude).average().orElse(0))
+                    .longitude(places.stream().mapToDouble(AllPlaceDto::getLongitude).average().orElse(0))
+                    .placeCount((long) places.size())
+                    .placeId(single == null ? null : single.getPlaceId())
+                    .placeName(single == null ? null : single.getPlaceName())
+                    .build());
         }
-        return allPlaceDto.stream().distinct().collect(Collectors.toList());
+        placeClusterRedisRepository.save(usersId, field, clusters);
+        return clusters;
+    }
+
+    public List<AllPlaceDto> viewPlacesInBounds(Double minLatitude, Double maxLatitude,
+                                                Double minLongitude, Double maxLongitude, int zoom) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        if (minLatitude < -90 || maxLatitude > 90 || minLatitude > maxLatitude
+                || minLongitude < -180 || maxLongitude > 180 || minLongitude > maxLongitude)
+            throw new BaseException(PLACE_INVALID_BOUNDS);
+        Set<String> cells = GeoHash.coveringCells(minLatitude, maxLatitude, minLongitude, maxLongitude,
+                GeoHash.precisionForZoom(zoom));
+        return postingRepository.findPlaceDtosInBounds(usersId, cells,
+                minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * geohash 가 없는 기존 장소에 geohash 채우기 (id 순으로 size 건씩)
+     * @return 마지막으로 처리한 장소 id, 더 없으면 null
+     */
+    public Long backfillGeohash(Long afterId, int size) {
+        List<Place> places = placeRepository.findByGeohashIsNullAndIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size));
+        if (places.isEmpty())
+            return null;
+        places.forEach(Place::updateGeohash);
+        return places.get(places.size() - 1).getId();
     }
 
     public DesignatedPostingDto viewSpecificPlaceDateList(Long placeId, Date date) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_PLACE));
-        List<Posting> postings = postingRepository.findByUsersAndRecordDateAndPlace(currentUsers, place, date);
-        if (postings.isEmpty())
+        List<PostingListDto> postingListDto = postingRepository.findDesignatedDtos(usersId, place.getId(), date);
+        if (postingListDto.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
-        List<Date> dates = postings.stream().map(Posting::getRecordDate).toList();
-        List<PostingListDto> postingListDto = new ArrayList<>();
-
-        for (Posting posting : postings) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(currentUsers)) {
-                isLike = 1L;
-            }
-            PostingListDto dto = PostingListDto.builder()
-                    .placeName(place.getName())
-                    .recordDate(posting.getRecordDate())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .postingCount((long) Collections.frequency(dates, date))
-                    .postingId(posting.getId())
-                    .isLike(isLike)
-                    .build();
-            postingListDto.add(dto);
-        }
+        likeService.fillIsLike(usersId, postingListDto);
+        GalleryCalendar.fillPostingCount(postingListDto);
         return new DesignatedPostingDto(postingListDto);
     }
 
     public List<AllPlaceDto> specificDatePosting() throws BaseException{
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Posting> postings = postingRepository.findByUsers(currentUsers);
+        Long usersId = SecurityUtils.getLoggedUserId();
+        List<Posting> postings = postingRepository.findByUsers(usersRepository.getReferenceById(usersId));
         List<AllPlaceDto> allPlaceDto = new ArrayList<>();
         for (Posting posting : postings) {
             AllPlaceDto dto = AllPlaceDto.builder()
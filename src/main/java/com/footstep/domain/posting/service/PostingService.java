@@ -4,15 +4,17 @@ import com.footstep.domain.base.BaseException;
 import com.footstep.domain.base.Status;
 import com.footstep.domain.posting.domain.Comment;
 import com.footstep.domain.posting.domain.place.Place;
+import com.footstep.domain.posting.domain.posting.ImageStatus;
 import com.footstep.domain.posting.domain.posting.Posting;
 import com.footstep.domain.posting.dto.*;
 import com.footstep.domain.posting.repository.CommentRepository;
 import com.footstep.domain.posting.repository.LikeRepository;
 import com.footstep.domain.posting.repository.PlaceRepository;
 import com.footstep.domain.posting.repository.PostingRepository;
-import com.footstep.domain.users.domain.Users;
+import com.footstep.domain.posting.service.ImageUploadService.SpooledImage;
+import com.footstep.domain.posting.util.GalleryCalendar;
+import com.footstep.domain.posting.util.FeedCursor;
 import com.footstep.domain.users.repository.UsersRepository;
-import com.footstep.global.config.s3.S3UploadUtil;
 import com.footstep.global.config.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -30,24 +32,34 @@ import static com.footstep.domain.base.BaseResponseStatus.*;
 @RequiredArgsConstructor
 @Transactional
 public class PostingService {
+
+    private static final int MAX_FEED_SIZE = 50;
+    private static final Date CALENDAR_MIN_DATE = Date.valueOf("1000-01-01");
+    private static final Date CALENDAR_MAX_DATE = Date.valueOf("9999-12-31");
     
     private final PlaceService placeService;
     private final UsersRepository usersRepository;
     private final PostingRepository postingRepository;
     private final CommentRepository commentRepository;
+    private final LikeService likeService;
+    private final TimelineService timelineService;
+    private final UsersPlaceService usersPlaceService;
     private final PlaceRepository placeRepository;
-    private final S3UploadUtil s3UploadUtil;
+    private final ImageUploadService imageUploadService;
+    private final StoredImageService storedImageService;
+    private final DirectUploadService directUploadService;
     
     public void uploadPosting(MultipartFile image, CreatePostingDto createPostingDto) throws BaseException, IOException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
+        SpooledImage spooledImage = null;
+        if (image != null && !image.isEmpty()) {
+            spooledImage = imageUploadService.spool(image);
+        } else if (createPostingDto.getUploadToken() != null) {
+            spooledImage = directUploadService.claim(usersId, createPostingDto.getObjectKey(), createPostingDto.getUploadToken());
+        }
         CreatePlaceDto createPlaceDto = createPostingDto.getCreatePlaceDto();
         Optional<Place> place = placeService.getPlace(createPlaceDto);
         Place createPlace;
-        String imageUrl = "";
-        if (image != null && !image.isEmpty()) {
-            imageUrl = s3UploadUtil.upload(image);
-        }
         if (place.isEmpty())
             createPlace = placeService.createPlace(createPlaceDto);
         else
@@ -56,18 +68,22 @@ public class PostingService {
                 .title(createPostingDto.getTitle())
                 .content(createPostingDto.getContent())
                 .recordDate(createPostingDto.getRecordDate())
-                .imageUrl(imageUrl)
+                .imageUrl("")
+                .imageStatus(spooledImage == null ? ImageStatus.NONE : ImageStatus.PENDING)
                 .place(createPlace)
-                .users(currentUsers)
+                .users(usersRepository.getReferenceById(usersId))
                 .visibilityStatusCode(createPostingDto.getVisibilityStatusCode())
                 .build();
 
         postingRepository.save(posting);
+        if (spooledImage != null)
+            imageUploadService.uploadPostingImage(posting.getId(), spooledImage);
+        usersPlaceService.increase(usersId, createPlace);
+        timelineService.publish(posting);
+        placeService.evictPlaceCluster(usersId);
     }
 
     public EditPostingDto getPostingInfo(Long postingId) throws BaseException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
         Posting posting = postingRepository.findById(postingId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
         Place place = posting.getPlace();
@@ -89,10 +105,13 @@ public class PostingService {
     }
 
     public void editPosting(Long postingId, CreatePostingDto createPostingDto) throws BaseException, IOException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Posting posting = postingRepository.findById(postingId)
             .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
+        Long ownerId = posting.getUsers().getId();
+        if (!usersId.equals(ownerId)) {
+            throw new BaseException(INVALID_USER_JWT);
+        }
         CreatePlaceDto createPlaceDto = createPostingDto.getCreatePlaceDto();
         Optional<Place> place = placeService.getPlace(createPlaceDto);
         Place createPlace;
@@ -100,192 +119,130 @@ public class PostingService {
             createPlace = placeService.createPlace(createPlaceDto);
         else
             createPlace = place.get();
+        Place beforePlace = posting.getPlace();
         posting.editPosting(createPostingDto, createPlace);
         postingRepository.save(posting);
+        if (posting.getStatus() == Status.NORMAL)
+            usersPlaceService.move(ownerId, beforePlace, createPlace);
+        timelineService.publish(posting);
+        placeService.evictPlaceCluster(ownerId);
     }
 
     public void removePosting(Long postingId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Posting posting = postingRepository.findById(postingId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
-        if (currentUsers.getId() != posting.getUsers().getId()) {
+        if (!usersId.equals(posting.getUsers().getId())) {
             throw new BaseException(INVALID_USER_JWT);
         }
+        if (posting.getStatus() == Status.NORMAL) {
+            usersPlaceService.decrease(usersId, posting.getPlace());
+            storedImageService.release(posting.getImageDigest());
+        }
         posting.removePosting();
         for (Comment comment : posting.getComments()) {
             comment.changeStatus();
             commentRepository.save(comment);
         }
         postingRepository.save(posting);
+        timelineService.unpublish(List.of(postingId));
+        placeService.evictPlaceCluster(usersId);
     }
 
     public PostingListResponseDto viewGallery() throws BaseException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Posting> postings = postingRepository.findByUsers(users);
-        if (postings.isEmpty())
+        Long usersId = SecurityUtils.getLoggedUserId();
+        List<PostingListDto> postingListDto = postingRepository.findGalleryDtos(usersId);
+        if (postingListDto.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
-        List<PostingListDto> postingListDto = new ArrayList<>();
-        List<Date> dates = postings.stream().map(Posting::getRecordDate).toList();
-
-        for (Posting posting : postings) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(users)) {
-                isLike = 1L;
-            }
-            PostingListDto dto = PostingListDto.builder()
-                    .placeName(posting.getPlace().getName())
-                    .recordDate(posting.getRecordDate())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .postingCount((long) Collections.frequency(dates, posting.getRecordDate()))
-                    .postingId(posting.getId())
-                    .isLike(isLike)
-                    .build();
-            postingListDto.add(dto);
-        }
-        return new PostingListResponseDto(postingListDto, dates.stream().distinct().count());
+        likeService.fillIsLike(usersId, postingListDto);
+        return new PostingListResponseDto(postingListDto, GalleryCalendar.fillPostingCount(postingListDto));
     }
 
-    public FeedListResponseDto viewFeed() throws BaseException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Long> reported = users.getReports().stream().map(report -> report.getTargetId()).collect(Collectors.toList());
-        reported.add(0L);
-        List<Posting> feeds = postingRepository.findAllFeed(reported, users);
-        if (feeds.isEmpty()){
+    public FeedListResponseDto viewFeed(String cursor, int size) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        List<FeedListDto> feedListDto = timelineService.readFeed(usersId, feedCursor, pageSize + 1)
+                .orElseGet(() -> postingRepository.findFeedDtoPage(usersId,
+                        feedCursor.getRecordDate(), feedCursor.getPostingId(), pageSize + 1));
+        if (feedListDto.isEmpty()){
             throw new BaseException(NOT_FOUND_POSTING);
         }
-        List<FeedListDto> feedListDto = new ArrayList<>();
+        boolean hasNext = feedListDto.size() > pageSize;
+        if (hasNext)
+            feedListDto = feedListDto.subList(0, pageSize);
 
-        for (Posting posting : feeds) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(users)) {
-                isLike = 1L;
-            }
-            FeedListDto dto = FeedListDto.builder()
-                    .postingId(posting.getId())
-                    .usersId(posting.getUsers().getId())
-                    .nickname(posting.getUsers().getNickname())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .content(posting.getContent())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .commentCount(posting.getComments().stream().filter(c -> c.getStatus() == Status.NORMAL).count())
-                    .placeName(posting.getPlace().getName())
-                    .recordDate(posting.getRecordDate())
-                    .isLike(isLike)
-                    .build();
-            feedListDto.add(dto);
+        Set<Long> liked = likeService.findLikedPostingIds(usersId,
+                feedListDto.stream().map(FeedListDto::getPostingId).toList());
+        feedListDto.forEach(dto -> dto.setIsLike(liked.contains(dto.getPostingId()) ? 1L : 0L));
+        String nextCursor = null;
+        if (hasNext) {
+            FeedListDto last = feedListDto.get(feedListDto.size() - 1);
+            nextCursor = FeedCursor.encode(new Date(last.getRecordDate().getTime()), last.getPostingId());
         }
-        return new FeedListResponseDto(feedListDto, (long) feedListDto.size());
+        return new FeedListResponseDto(feedListDto, (long) feedListDto.size(), nextCursor);
     }
 
     public PostingListResponseDto viewSpecificFeedList(Long userId) throws BaseException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        Users targetUsers = usersRepository.findById(userId)
-                .orElseThrow(() -> new BaseException(REQUEST_ERROR));
-        List<Long> reported = users.getReports().stream().map(report -> report.getTargetId()).collect(Collectors.toList());
-        reported.add(0L);
-        List<Posting> feeds = postingRepository.findSpecificFeed(reported, targetUsers);
-        if (feeds.isEmpty())
+        Long usersId = SecurityUtils.getLoggedUserId();
+        if (!usersRepository.existsById(userId))
+            throw new BaseException(REQUEST_ERROR);
+        List<PostingListDto> postingListDto = postingRepository.findSpecificFeedDtos(usersId, userId);
+        if (postingListDto.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
-        List<PostingListDto> postingListDto = new ArrayList<>();
-        List<Date> dates = feeds.stream().map(Posting::getRecordDate).toList();
-
-        for (Posting posting : feeds) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(users)) {
-                isLike = 1L;
-            }
-            PostingListDto dto = PostingListDto.builder()
-                    .placeName(posting.getPlace().getName())
-                    .recordDate(posting.getRecordDate())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .postingCount((long) Collections.frequency(dates, posting.getRecordDate()))
-                    .postingId(posting.getId())
-                    .isLike(isLike)
-                    .build();
-            postingListDto.add(dto);
-        }
-        return new PostingListResponseDto(postingListDto, dates.stream().distinct().count());
+        likeService.fillIsLike(usersId, postingListDto);
+        return new PostingListResponseDto(postingListDto, GalleryCalendar.fillPostingCount(postingListDto));
     }
 
     public DesignatedPostingDto viewDesignatedGallery(Date date) throws BaseException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Posting> postings = postingRepository.findByUsersAndRecordDate(users,date);
-        if (postings.isEmpty())
+        Long usersId = SecurityUtils.getLoggedUserId();
+        List<PostingListDto> postingListDto = postingRepository.findDesignatedDtos(usersId, null, date);
+        if (postingListDto.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
-        List<PostingListDto> postingListDto = new ArrayList<>();
-        List<Date> dates = postings.stream().map(Posting::getRecordDate).toList();
-
-        for (Posting posting : postings) {
-            Long isLike = 0L;
-            List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-            if (likeMember.contains(users)) {
-                isLike = 1L;
-            }
-            PostingListDto dto = PostingListDto.builder()
-                    .placeName(posting.getPlace().getName())
-                    .recordDate(posting.getRecordDate())
-                    .imageUrl(posting.getImageUrl())
-                    .title(posting.getTitle())
-                    .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
-                    .postingCount((long) Collections.frequency(dates, date))
-                    .postingId(posting.getId())
-                    .isLike(isLike)
-                    .build();
-            postingListDto.add(dto);
-        }
+        likeService.fillIsLike(usersId, postingListDto);
+        GalleryCalendar.fillPostingCount(postingListDto);
         return new DesignatedPostingDto(postingListDto);
     }
 
+    @Transactional(readOnly = true)
+    public CalendarResponseDto viewGalleryCalendar(Date startDate, Date endDate) throws BaseException {
+        Long usersId = SecurityUtils.getLoggedUserId();
+        List<CalendarDto> calendarDto = postingRepository.countByRecordDate(usersId,
+                startDate == null ? CALENDAR_MIN_DATE : startDate, endDate == null ? CALENDAR_MAX_DATE : endDate);
+        if (calendarDto.isEmpty())
+            throw new BaseException(NOT_FOUND_POSTING);
+        return new CalendarResponseDto(calendarDto, (long) calendarDto.size());
+    }
+
     @Transactional(readOnly = true)
     public SpecificPostingDto viewSpecificPosting(Long postingId) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
+        Long usersId = SecurityUtils.getLoggedUserId();
         Posting posting = postingRepository.findById(postingId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_POSTING));
         Place place = placeRepository.findById(posting.getPlace().getId())
                 .orElseThrow(() -> new BaseException(NOT_FOUND_PLACE));
-        List<Long> reported = currentUsers.getReports().stream().map(report -> report.getTargetId()).collect(Collectors.toList());
-        reported.add(0L);
-        List<Comment> comment = commentRepository.findByPosting(posting, reported);
-        Integer countComment = commentRepository.countByPosting(postingId);
-        Long isLike = 0L;
-        List<Users> likeMember = posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).map(l -> l.getUsers()).collect(Collectors.toList());
-        if (likeMember.contains(currentUsers)) {
-            isLike = 1L;
-        }
+        List<Comment> comment = commentRepository.findByPosting(posting, usersId);
+        Long isLike = likeService.findLikedPostingIds(usersId, List.of(postingId)).isEmpty() ? 0L : 1L;
         return SpecificPostingDto.builder()
                 .postingDate(posting.getRecordDate())
                 .postingName(posting.getTitle())
                 .content(posting.getContent())
                 .imageUrl(posting.getImageUrl())
+                .imageStatus(posting.getImageStatus() == null ? null : posting.getImageStatus().name())
                 .placeName(place.getName())
-                .likes(posting.getLikeList().stream().filter(l -> l.getStatus() == Status.NORMAL).count())
+                .likes(posting.getLikeCount())
                 .nickName(posting.getUsers().getNickname())
                 .commentList(comment.stream()
                         .map(c -> CommentDto.builder().usersId(c.getUsers().getId()).commentId(c.getId()).nickname(c.getUsers().getNickname())
                                 .content(c.getContent()).build()).collect(Collectors.toList()))
-                .commentNum(Integer.toString(countComment))
+                .commentNum(String.valueOf(posting.getCommentCount()))
                 .isLike(isLike)
                 .build();
     }
 
     public SpecificDateResponseDto viewSpecificDatePosting(Date startDate, Date endDate) throws BaseException {
-        Users currentUsers = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail())
-                .orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        List<Posting> postings = postingRepository.findByStartDateAndEndDate(currentUsers, startDate, endDate);
+        Long usersId = SecurityUtils.getLoggedUserId();
+        List<Posting> postings = postingRepository.findByStartDateAndEndDate(usersRepository.getReferenceById(usersId), startDate, endDate);
         if (postings.isEmpty())
             throw new BaseException(NOT_FOUND_POSTING);
 
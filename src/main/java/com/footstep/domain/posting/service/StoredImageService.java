@@ -0,0 +1,73 @@
+package com.footstep.domain.posting.service;
+
+import com.footstep.domain.posting.domain.image.StoredImage;
+import com.footstep.domain.posting.repository.StoredImageRepository;
+import com.footstep.global.config.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+
+    private final StoredImageRepository storedImageRepository;
+    private final BlobStore blobStore;
+
+    /**
+     * 이미 저장된 이미지면 참조 수를 늘리고 반환, 처음 보는 이미지면 empty
+     * GC 가 삭제 중인 이미지면 IllegalStateException (업로드 재시도 후 새로 저장)
+     */
+    @Transactional
+    public Optional<StoredImage> acquire(String digest) {
+        if (storedImageRepository.increaseRefCount(digest) == 1)
+            return storedImageRepository.findByDigest(digest);
+        if (storedImageRepository.findByDigest(digest).isPresent())
+            throw new IllegalStateException("삭제 중인 이미지입니다. - " + digest);
+        return Optional.empty();
+    }
+
+    /**
+     * 새로 업로드한 이미지 등록 (참조 수 1)
+     * 같은 이미지가 동시에 등록되면 DataIntegrityViolationException
+     */
+    @Transactional
+    public StoredImage register(StoredImage storedImage) {
+        return storedImageRepository.saveAndFlush(storedImage);
+    }
+
+    @Transactional
+    public void release(String digest) {
+        if (digest != null)
+            storedImageRepository.decreaseRefCount(digest, LocalDateTime.now());
+    }
+
+    /**
+     * before 이전에 참조가 모두 사라진 이미지의 저장소 객체와 항목 삭제
+     * 삭제 전에 상태를 EXPIRED 로 바꿔 그 사이 같은 이미지가 다시 참조되지 않도록 함
+     */
+    public int collectGarbage(LocalDateTime before, int size) {
+        List<StoredImage> candidates = storedImageRepository.findUnreferenced(before, PageRequest.of(0, size));
+        int deleted = 0;
+        for (StoredImage storedImage : candidates) {
+            if (storedImageRepository.markDeleting(storedImage.getId()) == 0)
+                continue;
+            try {
+                storedImage.getObjectKeys().forEach(blobStore::delete);
+                storedImageRepository.deleteById(storedImage.getId());
+                deleted++;
+            } catch (RuntimeException e) {
+                log.warn("이미지 삭제 실패 - {}", storedImage.getDigest(), e);
+                storedImageRepository.restore(storedImage.getId());
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,134 @@
+package com.footstep.domain.posting.service;
+
+import com.footstep.domain.base.Status;
+import com.footstep.domain.posting.domain.posting.Posting;
+import com.footstep.domain.posting.domain.posting.VisibilityStatus;
+import com.footstep.domain.posting.dto.FeedListDto;
+import com.footstep.domain.posting.repository.PostingRepository;
+import com.footstep.domain.posting.repository.TimelineRedisRepository;
+import com.footstep.domain.posting.util.FeedCursor;
+import com.footstep.domain.report.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.footstep.domain.posting.repository.TimelineRedisRepository.TIMELINE_SIZE;
+
+/**
+ * 게시글 작성/수정/삭제 시 공개 타임라인에 반영하고(fan-out-on-write),
+ * 피드는 타임라인에서 id 페이지를 읽어 한 번에 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    // 본인 글, 신고한 글을 걸러내며 채울 때 최대 조회 횟수 (초과 시 DB 조회)
+    private static final int MAX_SCAN_ROUNDS = 5;
+
+    private final TimelineRedisRepository timelineRedisRepository;
+    private final PostingRepository postingRepository;
+    private final ReportRepository reportRepository;
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영 (커밋 전에 피드가 읽으면 stale 로 지워지고, 롤백되면 남기 때문)
+     */
+    public void publish(Posting posting) {
+        Long postingId = posting.getId();
+        if (posting.getStatus() == Status.NORMAL && posting.getVisibilityStatus() == VisibilityStatus.PUBLIC) {
+            Date recordDate = posting.getRecordDate();
+            afterCommit(() -> timelineRedisRepository.add(postingId, recordDate));
+        } else {
+            unpublish(List.of(postingId));
+        }
+    }
+
+    public void unpublish(Collection<Long> postingIds) {
+        List<Long> ids = List.copyOf(postingIds);
+        afterCommit(() -> timelineRedisRepository.remove(ids));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 타임라인이 잘린 적이 있으면(하한이 있으면) 마지막까지 읽어도 더 오래된 글이 DB 에 남아 있을 수 있으므로 DB 조회
+     * @return 타임라인이 적재되지 않았거나 보관 범위를 벗어난 페이지면 Optional.empty() (DB 조회)
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<FeedListDto>> readFeed(Long usersId, FeedCursor cursor, int limit) {
+        if (!timelineRedisRepository.isReady())
+            return Optional.empty();
+        OptionalDouble floor = timelineRedisRepository.findFloor();
+        if (floor.isPresent() && TimelineRedisRepository.isPastFloor(cursor.getRecordDate(), cursor.getPostingId(), floor.getAsDouble()))
+            return Optional.empty();
+        List<FeedListDto> page = new ArrayList<>();
+        Date recordDate = cursor.getRecordDate();
+        Long postingId = cursor.getPostingId();
+        int batchSize = limit * 2;
+        boolean exhausted = false;
+
+        for (int round = 0; round < MAX_SCAN_ROUNDS && page.size() < limit; round++) {
+            Map<Long, Double> entries = timelineRedisRepository.findAfter(recordDate, postingId, batchSize);
+            Map<Long, FeedListDto> rows = entries.isEmpty() ? Map.of() : postingRepository.findFeedDtosByIds(entries.keySet())
+                    .stream().collect(Collectors.toMap(FeedListDto::getPostingId, Function.identity()));
+            // 신고 여부는 이번에 읽은 id 들에 대해서만 조회
+            Set<Long> reported = rows.isEmpty() ? Set.of() : new HashSet<>(reportRepository.findTargetIds(usersId, rows.keySet()));
+            List<Long> stale = new ArrayList<>();
+            for (Long id : entries.keySet()) {
+                FeedListDto dto = rows.get(id);
+                if (dto == null)
+                    stale.add(id);
+                else if (!dto.getUsersId().equals(usersId) && !reported.contains(id) && page.size() < limit)
+                    page.add(dto);
+            }
+            timelineRedisRepository.remove(stale);
+            if (entries.size() < batchSize) {
+                exhausted = true;
+                break;
+            }
+            double last = new ArrayList<>(entries.values()).get(entries.size() - 1);
+            recordDate = TimelineRedisRepository.recordDateOf(last);
+            postingId = TimelineRedisRepository.postingIdOf(last);
+        }
+        if (page.size() == limit || (exhausted && floor.isEmpty()))
+            return Optional.of(page);
+        return Optional.empty();
+    }
+
+    /**
+     * 최근 공개 게시글로 타임라인을 다시 채움. 기존 항목은 유지하므로 재적재 중 작성된 글도 유실되지 않음
+     * 조회 결과가 TIMELINE_SIZE 건이면 더 오래된 글이 있을 수 있으므로 가장 오래된 항목을 하한으로 기록
+     */
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        List<Object[]> rows = postingRepository.findTimelineEntries(PageRequest.of(0, TIMELINE_SIZE));
+        Map<Long, Date> entries = new LinkedHashMap<>();
+        for (Object[] row : rows)
+            entries.put((Long) row[0], (Date) row[1]);
+        timelineRedisRepository.refill(entries, rows.size() == TIMELINE_SIZE);
+        timelineRedisRepository.markReady();
+        return entries.size();
+    }
+
+    public boolean isCold() {
+        return !timelineRedisRepository.isReady();
+    }
+}
@@ -0,0 +1,72 @@
+package com.footstep.domain.posting.service;
+
+import com.footstep.domain.posting.domain.place.City;
+import com.footstep.domain.posting.domain.place.Place;
+import com.footstep.domain.posting.domain.place.UsersPlace;
+import com.footstep.domain.posting.dto.AllPlaceDto;
+import com.footstep.domain.posting.repository.PostingRepository;
+import com.footstep.domain.posting.repository.UsersPlaceRedisRepository;
+import com.footstep.domain.posting.repository.UsersPlaceRepository;
+import com.footstep.domain.users.repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 유저별 장소 요약(UsersPlace) 관리
+ * 게시글 작성/수정/삭제 트랜잭션 안에서 증감하고, 기존 게시글은 UsersPlaceScheduler 가 채우고 보정
+ * 채우기가 끝나기 전(또는 장소 병합 직후)에는 Posting 에서 바로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UsersPlaceService {
+
+    private final UsersPlaceRepository usersPlaceRepository;
+    private final UsersPlaceRedisRepository usersPlaceRedisRepository;
+    private final PostingRepository postingRepository;
+    private final UsersRepository usersRepository;
+
+    public List<AllPlaceDto> findPlaces(Long usersId, City city) {
+        if (!usersPlaceRedisRepository.isReady())
+            return postingRepository.findPlaceDtos(usersId, city);
+        if (city == null)
+            return usersPlaceRepository.findPlaceDtos(usersId);
+        return usersPlaceRepository.findPlaceDtosByCity(usersId, city);
+    }
+
+    public void increase(Long usersId, Place place) {
+        if (usersPlaceRepository.increasePostingCount(usersId, place.getId()) == 0) {
+            usersPlaceRepository.save(UsersPlace.builder()
+                    .users(usersRepository.getReferenceById(usersId))
+                    .place(place)
+                    .city(place.getCity())
+                    .postingCount(1L)
+                    .build());
+        }
+    }
+
+    public void decrease(Long usersId, Place place) {
+        usersPlaceRepository.decreasePostingCount(usersId, place.getId());
+    }
+
+    public void move(Long usersId, Place from, Place to) {
+        if (from.getId().equals(to.getId()))
+            return;
+        decrease(usersId, from);
+        increase(usersId, to);
+    }
+
+    public void clear(Long usersId) {
+        usersPlaceRepository.deleteByUsersId(usersId);
+    }
+
+    /**
+     * 장소 병합 등으로 요약 전체가 어긋났을 때, 다음 보정이 끝날 때까지 Posting 에서 조회하도록 함
+     */
+    public void resetAll() {
+        usersPlaceRedisRepository.unmarkReady();
+    }
+}
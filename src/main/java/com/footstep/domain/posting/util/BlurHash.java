@@ -0,0 +1,95 @@
+package com.footstep.domain.posting.util;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코딩 (https://blurha.sh)
+ * 이미지를 수십 바이트 문자열로 요약해 원본이 로드되기 전 흐린 미리보기로 사용
+ */
+public class BlurHash {
+
+    private static final char[] BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~".toCharArray();
+
+    private BlurHash() {
+    }
+
+    public static String encode(BufferedImage image, int componentX, int componentY) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[][] factors = new double[componentX * componentY][];
+        for (int j = 0; j < componentY; j++) {
+            for (int i = 0; i < componentX; i++) {
+                double normalisation = (i == 0 && j == 0) ? 1 : 2;
+                double r = 0, g = 0, b = 0;
+                for (int y = 0; y < height; y++) {
+                    double basisY = Math.cos(Math.PI * j * y / height);
+                    for (int x = 0; x < width; x++) {
+                        double basis = normalisation * Math.cos(Math.PI * i * x / width) * basisY;
+                        int pixel = pixels[y * width + x];
+                        r += basis * sRGBToLinear((pixel >> 16) & 0xff);
+                        g += basis * sRGBToLinear((pixel >> 8) & 0xff);
+                        b += basis * sRGBToLinear(pixel & 0xff);
+                    }
+                }
+                double scale = 1.0 / (width * height);
+                factors[j * componentX + i] = new double[]{r * scale, g * scale, b * scale};
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83(hash, (componentX - 1) + (componentY - 1) * 9, 1);
+
+        double maximumValue = 1;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++)
+                for (double value : factors[k])
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            encode83(hash, quantisedMaximum, 1);
+        } else {
+            encode83(hash, 0, 1);
+        }
+
+        double[] dc = factors[0];
+        encode83(hash, (linearToSRGB(dc[0]) << 16) + (linearToSRGB(dc[1]) << 8) + linearToSRGB(dc[2]), 4);
+        for (int k = 1; k < factors.length; k++)
+            encode83(hash, encodeAC(factors[k], maximumValue), 2);
+        return hash.toString();
+    }
+
+    private static int encodeAC(double[] value, double maximumValue) {
+        int quantR = quantise(value[0] / maximumValue);
+        int quantG = quantise(value[1] / maximumValue);
+        int quantB = quantise(value[2] / maximumValue);
+        return quantR * 19 * 19 + quantG * 19 + quantB;
+    }
+
+    private static int quantise(double value) {
+        double signPow = Math.copySign(Math.pow(Math.abs(value), 0.5), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signPow * 9 + 9.5)));
+    }
+
+    private static double sRGBToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int linearToSRGB(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encode83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (int) (value / Math.pow(83, length - i)) % 83;
+            hash.append(BASE83[digit]);
+        }
+    }
+}
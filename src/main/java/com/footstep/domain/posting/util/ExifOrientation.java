@@ -0,0 +1,122 @@
+package com.footstep.domain.posting.util;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG EXIF Orientation 태그 (1 ~ 8)
+ * 휴대폰 카메라는 픽셀은 센서 방향대로 저장하고 회전은 이 태그로만 표시하므로,
+ * 메타데이터를 버리고 다시 인코딩할 때는 태그대로 픽셀을 돌려 두어야 함
+ */
+public class ExifOrientation {
+
+    public static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int APP1 = 0xFFE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG 가 아니거나 태그가 없으면(읽을 수 없으면) NORMAL
+     */
+    public static int read(File source) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(source)))) {
+            if (in.readUnsignedShort() != SOI)
+                return NORMAL;
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI)
+                    return NORMAL;
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0)
+                    return NORMAL;
+                if (marker != APP1) {
+                    in.skipNBytes(length);
+                    continue;
+                }
+                byte[] segment = new byte[length];
+                in.readFully(segment);
+                // APP1 은 XMP 일 수도 있으므로 EXIF 가 아니면 다음 세그먼트 확인
+                if (isExif(segment))
+                    return parse(segment);
+            }
+        } catch (IOException | RuntimeException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * 태그대로 돌리거나 뒤집은 이미지, NORMAL 이면 그대로 반환
+     */
+    public static BufferedImage apply(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: transform = new AffineTransform(-1, 0, 0, 1, w, 0); break;
+            case 3: transform = new AffineTransform(-1, 0, 0, -1, w, h); break;
+            case 4: transform = new AffineTransform(1, 0, 0, -1, 0, h); break;
+            case 5: transform = new AffineTransform(0, 1, 1, 0, 0, 0); break;
+            case 6: transform = new AffineTransform(0, 1, -1, 0, h, 0); break;
+            case 7: transform = new AffineTransform(0, -1, -1, 0, h, w); break;
+            case 8: transform = new AffineTransform(0, -1, 1, 0, 0, w); break;
+            default: return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    private static boolean isExif(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length + 8)
+            return false;
+        for (int i = 0; i < EXIF_HEADER.length; i++)
+            if (segment[i] != EXIF_HEADER[i])
+                return false;
+        return true;
+    }
+
+    /**
+     * TIFF 헤더(바이트 순서, IFD0 위치) 다음 IFD0 항목에서 Orientation 을 찾음
+     */
+    private static int parse(byte[] segment) {
+        ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+        short byteOrder = tiff.getShort(0);
+        if (byteOrder == 0x4949)
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        else if (byteOrder != 0x4D4D)
+            return NORMAL;
+        int ifd = tiff.getInt(4);
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+}
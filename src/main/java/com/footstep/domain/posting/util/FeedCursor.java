@@ -0,0 +1,52 @@
+package com.footstep.domain.posting.util;
+
+import com.footstep.domain.base.BaseException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Base64;
+
+import static com.footstep.domain.base.BaseResponseStatus.POSTING_INVALID_CURSOR;
+
+/**
+ * 피드 키셋 페이지네이션 커서 (recordDate, postingId)
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출
+ */
+@Getter
+public class FeedCursor {
+
+    private static final String DELIMITER = "_";
+    private static final Date FIRST_RECORD_DATE = Date.valueOf("9999-12-31");
+
+    private final Date recordDate;
+    private final Long postingId;
+
+    private FeedCursor(Date recordDate, Long postingId) {
+        this.recordDate = recordDate;
+        this.postingId = postingId;
+    }
+
+    public static FeedCursor first() {
+        return new FeedCursor(FIRST_RECORD_DATE, Long.MAX_VALUE);
+    }
+
+    public static FeedCursor decode(String cursor) throws BaseException {
+        if (cursor == null || cursor.isBlank())
+            return first();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2)
+                throw new BaseException(POSTING_INVALID_CURSOR);
+            return new FeedCursor(Date.valueOf(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException exception) {
+            throw new BaseException(POSTING_INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(Date recordDate, Long postingId) {
+        String raw = recordDate.toString() + DELIMITER + postingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.footstep.domain.posting.util;
+
+import com.footstep.domain.posting.dto.PostingListDto;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 갤러리 목록의 날짜별 게시글 수 계산 (한 번 순회로 날짜별 개수를 센 뒤 채움)
+ */
+public class GalleryCalendar {
+
+    private GalleryCalendar() {
+    }
+
+    /**
+     * @return 게시글이 있는 날짜 수
+     */
+    public static long fillPostingCount(List<PostingListDto> postingListDto) {
+        Map<Date, Long> counts = new HashMap<>();
+        for (PostingListDto dto : postingListDto)
+            counts.merge(dto.getRecordDate(), 1L, Long::sum);
+        postingListDto.forEach(dto -> dto.setPostingCount(counts.get(dto.getRecordDate())));
+        return counts.size();
+    }
+}
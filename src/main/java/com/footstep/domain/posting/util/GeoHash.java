@@ -0,0 +1,151 @@
+package com.footstep.domain.posting.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 위도/경도 geohash 인코딩과 지도 영역(bounding box)을 덮는 셀 계산
+ * 같은 접두사를 가진 geohash 는 같은 셀 안에 있으므로 B-tree 인덱스 LIKE 'prefix%' 범위 조회로 사용
+ */
+public class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+    // 한 번의 조회에서 사용할 최대 셀 개수 (초과하면 정밀도를 낮춤)
+    public static final int MAX_COVERING_CELLS = 32;
+
+    private static final double EARTH_RADIUS_METERS = 6371008.8;
+    private static final double METERS_PER_DEGREE = 111320.0;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean isLng = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (isLng) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            isLng = !isLng;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 지도 줌 레벨(0~21, 클수록 확대)에 맞는 geohash 정밀도
+     */
+    public static int precisionForZoom(int zoom) {
+        if (zoom <= 3) return 1;
+        if (zoom <= 5) return 2;
+        if (zoom <= 8) return 3;
+        if (zoom <= 10) return 4;
+        if (zoom <= 13) return 5;
+        if (zoom <= 15) return 6;
+        return 7;
+    }
+
+    /**
+     * 셀 한 변이 반경(m) 이상이 되는 가장 높은 정밀도. 이 정밀도로 반경 영역을 덮으면 셀이 최대 3x3 개
+     */
+    public static int precisionForRadius(double latitude, double radiusMeters) {
+        for (int p = MAX_PRECISION; p > 1; p--) {
+            double heightMeters = cellHeight(p) * METERS_PER_DEGREE;
+            double widthMeters = cellWidth(p) * METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+            if (heightMeters >= radiusMeters && widthMeters >= radiusMeters)
+                return p;
+        }
+        return 1;
+    }
+
+    /**
+     * 중심에서 반경(m) 안의 영역 {minLat, maxLat, minLng, maxLng}
+     */
+    public static double[] boundsOf(double latitude, double longitude, double radiusMeters) {
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double dLng = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        return new double[]{
+                Math.max(latitude - dLat, -90), Math.min(latitude + dLat, 90),
+                Math.max(longitude - dLng, -180), Math.min(longitude + dLng, 180)};
+    }
+
+    /**
+     * 두 좌표 사이 거리(m, haversine)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    public static double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * 영역을 빠짐없이 덮는 geohash 셀 목록. 셀 개수가 MAX_COVERING_CELLS 를 넘으면 정밀도를 낮춰 다시 계산
+     */
+    public static Set<String> coveringCells(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        int p = Math.max(1, Math.min(precision, MAX_PRECISION));
+        while (p > 1 && cellCount(minLat, maxLat, minLng, maxLng, p) > MAX_COVERING_CELLS)
+            p--;
+        double height = cellHeight(p);
+        double width = cellWidth(p);
+        Set<String> cells = new LinkedHashSet<>();
+        for (long latIdx = latIndex(minLat, height); latIdx <= latIndex(maxLat, height); latIdx++) {
+            for (long lngIdx = lngIndex(minLng, width); lngIdx <= lngIndex(maxLng, width); lngIdx++) {
+                double lat = -90 + (latIdx + 0.5) * height;
+                double lng = -180 + (lngIdx + 0.5) * width;
+                cells.add(encode(lat, lng, p));
+            }
+        }
+        return cells;
+    }
+
+    private static long cellCount(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        return (latIndex(maxLat, height) - latIndex(minLat, height) + 1)
+                * (lngIndex(maxLng, width) - lngIndex(minLng, width) + 1);
+    }
+
+    private static long latIndex(double latitude, double height) {
+        return Math.min((long) Math.floor((latitude + 90) / height), (long) (180 / height) - 1);
+    }
+
+    private static long lngIndex(double longitude, double width) {
+        return Math.min((long) Math.floor((longitude + 180) / width), (long) (360 / width) - 1);
+    }
+}
@@ -0,0 +1,163 @@
+package com.footstep.domain.posting.util;
+
+import lombok.Getter;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.IIOImage;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지의 크기별 파생본 생성
+ * 한 번만 디코딩한 뒤 JPEG 로 다시 인코딩하므로 EXIF(위치 정보 등) 메타데이터는 모두 제거됨 (Orientation 은 미리 픽셀에 반영)
+ * 큰 이미지는 디코딩할 때부터 full 의 2배 정도로 솎아 읽어 작업 스레드당 메모리 사용량을 제한
+ * full : 긴 변 2048px, medium : 1080px (피드), thumb : 320px (갤러리 그리드), blurHash : 로딩 전 미리보기
+ */
+@Getter
+public class ImageVariants {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final int FULL_SIZE = 2048;
+    private static final int MEDIUM_SIZE = 1080;
+    private static final int THUMB_SIZE = 320;
+    private static final int BLUR_HASH_SIZE = 32;
+    private static final float JPEG_QUALITY = 0.85f;
+    // 디코딩 전에 확인하는 최대 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_PIXELS = 50_000_000L;
+    // 솎아 읽은 뒤 긴 변의 최소 길이 (이후 절반씩 축소하며 화질 유지)
+    private static final int DECODE_SIZE = FULL_SIZE * 2;
+
+    private final File full;
+    private final File medium;
+    private final File thumb;
+    private final String blurHash;
+
+    private ImageVariants(File full, File medium, File thumb, String blurHash) {
+        this.full = full;
+        this.medium = medium;
+        this.thumb = thumb;
+        this.blurHash = blurHash;
+    }
+
+    /**
+     * 디코딩할 수 없는 형식이거나 너무 큰 이미지면 empty
+     */
+    public static Optional<ImageVariants> create(File source) throws IOException {
+        BufferedImage image = decode(source);
+        if (image == null)
+            return Optional.empty();
+        image = ExifOrientation.apply(image, ExifOrientation.read(source));
+
+        BufferedImage full = resize(image, FULL_SIZE);
+        BufferedImage medium = resize(full, MEDIUM_SIZE);
+        BufferedImage thumb = resize(medium, THUMB_SIZE);
+        String blurHash = BlurHash.encode(resize(thumb, BLUR_HASH_SIZE), 4, 3);
+
+        File fullFile = null, mediumFile = null, thumbFile = null;
+        try {
+            fullFile = writeJpeg(full);
+            mediumFile = writeJpeg(medium);
+            thumbFile = writeJpeg(thumb);
+            return Optional.of(new ImageVariants(fullFile, mediumFile, thumbFile, blurHash));
+        } catch (IOException | RuntimeException e) {
+            for (File file : new File[]{fullFile, mediumFile, thumbFile})
+                if (file != null)
+                    file.delete();
+            throw e;
+        }
+    }
+
+    public List<File> getFiles() {
+        return List.of(full, medium, thumb);
+    }
+
+    private static BufferedImage decode(File source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null)
+                return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext())
+                return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS)
+                    return null;
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / DECODE_SIZE);
+                if (subsampling > 1)
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나누어 축소
+     * 알파 채널은 흰 배경으로 합성해 RGB 로 변환
+     */
+    private static BufferedImage resize(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (current != image && width == current.getWidth() && height == current.getHeight())
+                break;
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static File writeJpeg(BufferedImage image) throws IOException {
+        File file = Files.createTempFile("footstep-variant-", ".jpg").toFile();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            file.delete();
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        return file;
+    }
+}
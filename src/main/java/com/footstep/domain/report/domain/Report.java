@@ -13,6 +13,7 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_report_users_target", columnList = "users_id, targetId"))
 public class Report extends BaseTimeEntity {
 
     @Id @GeneratedValue
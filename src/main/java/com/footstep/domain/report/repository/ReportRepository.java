@@ -3,10 +3,16 @@ package com.footstep.domain.report.repository;
 import com.footstep.domain.report.domain.Report;
 import com.footstep.domain.users.domain.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
     List<Report> findByUsers(Users users);
+
+    @Query("SELECT r.targetId FROM Report r WHERE r.users.id = :usersId AND r.targetId IN :targetIds")
+    List<Long> findTargetIds(@Param("usersId") Long usersId, @Param("targetIds") Collection<Long> targetIds);
 }
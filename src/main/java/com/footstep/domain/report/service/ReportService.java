@@ -19,8 +19,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.MessagingException;
-import java.io.UnsupportedEncodingException;
 import java.util.List;
 
 import static com.footstep.domain.base.BaseResponseStatus.*;
@@ -96,22 +94,10 @@ public class ReportService {
     public void sendMail(Users reportedUser, String title, String reason) throws BaseException {
         if (reportedUser.getReportedCount() >= 3) {
             reportedUser.initReportedCount();
-            try{
-                mailService.sendMailForBlock(reportedUser.getEmail());
-            } catch (UnsupportedEncodingException exception) {
-                throw new BaseException(INVALID_CHAR_SET);
-            } catch (MessagingException exception) {
-                throw new BaseException(INVALID_CHAR_SET);
-            }
+            mailService.sendMailForBlock(reportedUser.getEmail());
             usersService.blocked(reportedUser);
         } else {
-            try{
-                mailService.sendMailForReport(reportedUser.getEmail(), reportedUser.getNickname(), title, reason);
-            } catch (UnsupportedEncodingException exception) {
-                throw new BaseException(INVALID_CHAR_SET);
-            } catch (MessagingException exception) {
-                throw new BaseException(INVALID_CHAR_SET);
-            }
+            mailService.sendMailForReport(reportedUser.getEmail(), reportedUser.getNickname(), title, reason);
         }
         usersRepository.save(reportedUser);
     }
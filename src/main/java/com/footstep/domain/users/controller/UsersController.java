@@ -18,10 +18,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.mail.MessagingException;
 import javax.validation.Valid;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 
 @Api(tags = {"회원 정보 API"})
 @ApiResponses({
@@ -44,7 +42,7 @@ public class UsersController {
             @ApiResponse(code = 3012, message = "이미 존재하는 닉네임입니다.")
     })
     @PostMapping("/join")
-    public BaseResponse<String> join(@Valid @RequestBody JoinDto joinDto, BindingResult bindingResult) throws MessagingException, UnsupportedEncodingException {
+    public BaseResponse<String> join(@Valid @RequestBody JoinDto joinDto, BindingResult bindingResult) {
         try {
             if(bindingResult.hasErrors())
                 usersService.isValid(bindingResult.getFieldErrors().get(0).getField());
@@ -83,7 +81,7 @@ public class UsersController {
             @ApiResponse(code = 3014, message = "존재하지 않는 이메일입니다."),
     })
     @PostMapping("/find/password")
-    public BaseResponse<String> findPassword(@RequestBody UsersInfo usersInfo) throws MessagingException, UnsupportedEncodingException {
+    public BaseResponse<String> findPassword(@RequestBody UsersInfo usersInfo) {
         try {
             usersService.findPassword(usersInfo);
             return new BaseResponse<>("임시 비밀번호 메일을 성공적으로 보냈습니다.");
@@ -33,6 +33,8 @@ public class Users extends BaseTimeEntity {
     private String nickname;
     private String password;
     private String profileImageUrl;
+    @Column(length = 64)
+    private String profileImageDigest;
     private int reportedCount;
     private LocalDateTime bannedDate;
     private Boolean certified;
@@ -2,6 +2,10 @@ package com.footstep.domain.users.repository;
 
 import com.footstep.domain.users.domain.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,4 +13,14 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByNickname(String nickname);
 
     Optional<Users> findByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Users u SET u.profileImageUrl = :profileImageUrl, u.profileImageDigest = :profileImageDigest " +
+            "WHERE u.id = :usersId")
+    int changeProfileImage(@Param("usersId") Long usersId, @Param("profileImageUrl") String profileImageUrl,
+                           @Param("profileImageDigest") String profileImageDigest);
+
+    @Query("SELECT u.profileImageDigest FROM Users u WHERE u.id = :usersId")
+    String findProfileImageDigest(@Param("usersId") Long usersId);
 }
@@ -0,0 +1,32 @@
+package com.footstep.domain.users.scheduler;
+
+import com.footstep.global.config.jwt.LogoutTokenFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 토큰 Bloom filter 재구성
+ * 서버 시작 시 최초 구성, 이후 만료된 토큰 정리와 pub/sub 메시지 유실 보정을 위해 10분마다 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogoutTokenFilterScheduler {
+
+    private final LogoutTokenFilter logoutTokenFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            long count = logoutTokenFilter.rebuild();
+            log.info("로그아웃 토큰 필터 재구성 완료 - {}건", count);
+        } catch (RuntimeException e) {
+            log.warn("로그아웃 토큰 필터 재구성 실패", e);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.footstep.domain.users.service;
 import com.footstep.domain.base.BaseException;
 import com.footstep.domain.base.BaseResponseStatus;
 import com.footstep.domain.base.Status;
-import com.footstep.domain.mail.repository.MailVerificationRepository;
+import com.footstep.domain.mail.repository.MailVerificationCodeRedisRepository;
 import com.footstep.domain.mail.service.MailService;
 import com.footstep.domain.users.domain.Users;
 import com.footstep.domain.users.domain.auth.LogoutAccessToken;
@@ -14,6 +14,8 @@ import com.footstep.domain.users.repository.UsersRepository;
 import com.footstep.domain.users.repository.auth.LogoutAccessTokenRedisRepository;
 import com.footstep.domain.users.repository.auth.RefreshTokenRedisRepository;
 import com.footstep.global.config.jwt.JwtTokenUtil;
+import com.footstep.global.config.jwt.LogoutTokenFilter;
+import com.footstep.global.config.jwt.VerifiedTokenCache;
 import com.footstep.global.config.jwt.constants.JwtExpiration;
 import com.footstep.global.config.redis.CacheKey;
 import com.footstep.global.config.security.util.SecurityUtils;
@@ -26,8 +28,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.MessagingException;
-import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
 
 import static com.footstep.domain.base.BaseResponseStatus.*;
@@ -42,8 +42,10 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRedisRepository refreshTokenRedisRepository;
     private final LogoutAccessTokenRedisRepository logoutAccessTokenRedisRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LogoutTokenFilter logoutTokenFilter;
     private final JwtTokenUtil jwtTokenUtil;
-    private final MailVerificationRepository mailVerificationRepository;
+    private final MailVerificationCodeRedisRepository mailVerificationCodeRedisRepository;
     private final MailService mailService;
 
     public TokenDto login(LoginDto loginDto) throws BaseException {
@@ -58,18 +60,20 @@ public class AuthService {
             throw new BaseException(NOT_CERTIFIED);
         }
         String username = users.getEmail();
-        String accessToken = jwtTokenUtil.generateAccessToken(username);
+        String accessToken = jwtTokenUtil.generateAccessToken(username, users.getId(), users.getRoles());
         RefreshToken refreshToken = saveRefreshToken(username);
         return TokenDto.of(accessToken, refreshToken.getRefreshToken());
     }
 
     public void certify(String mail, String certified) throws BaseException {
-        mailVerificationRepository.findByMailAndCode(mail, certified).orElseThrow(
-                () -> new BaseException(NOT_FOUND_MAIL_VERIFICATION));
+        mailVerificationCodeRedisRepository.findById(mail)
+                .filter(verificationCode -> verificationCode.matches(certified))
+                .orElseThrow(() -> new BaseException(NOT_FOUND_MAIL_VERIFICATION));
         Users users = usersRepository.findByEmail(mail).orElseThrow(
                 () -> new BaseException(NOT_FOUND_USERS_ID));
         users.certified();
         usersRepository.save(users);
+        mailVerificationCodeRedisRepository.deleteById(mail);
     }
 
     private void checkPassword(String rawPassword, String findMemberPassword) throws BaseException {
@@ -91,9 +95,11 @@ public class AuthService {
             throw new BaseException(BAD_REQUEST);
         }
         String accessToken = resolveToken(tokenDto.getAccessToken());
-        long remainMilliSeconds = jwtTokenUtil.getRemainMilliSeconds(accessToken);
+        long remainMilliSeconds = verifiedTokenCache.verify(accessToken).getRemainMilliSeconds();
         removeRefreshTokenByUser(username);
         logoutAccessTokenRedisRepository.save(LogoutAccessToken.of(accessToken, username, remainMilliSeconds));
+        logoutTokenFilter.add(accessToken);
+        verifiedTokenCache.evict(accessToken);
     }
 
     public void removeRefreshTokenByUser(String username) { refreshTokenRedisRepository.deleteById(username); }
@@ -119,12 +125,14 @@ public class AuthService {
         return principal.getUsername();
     }
 
-    private TokenDto reissueRefreshToken(String refreshToken, String username) {
+    private TokenDto reissueRefreshToken(String refreshToken, String username) throws BaseException {
+        // 재발급 시에는 권한 변경을 반영하도록 유저를 다시 조회
+        Users users = usersRepository.findByEmail(username).orElseThrow(() -> new BaseException(NOT_FOUND_USERS_ID));
+        String accessToken = jwtTokenUtil.generateAccessToken(username, users.getId(), users.getRoles());
         if (lessThanReissueExpirationTimesLeft(refreshToken)) {
-            String accessToken = jwtTokenUtil.generateAccessToken(username);
             return TokenDto.of(accessToken, saveRefreshToken(username).getRefreshToken());
         }
-        return TokenDto.of(jwtTokenUtil.generateAccessToken(username), refreshToken);
+        return TokenDto.of(accessToken, refreshToken);
     }
 
     private boolean lessThanReissueExpirationTimesLeft(String refreshToken) {
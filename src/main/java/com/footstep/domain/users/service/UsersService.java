@@ -7,10 +7,16 @@ import com.footstep.domain.posting.domain.Comment;
 import com.footstep.domain.posting.domain.Likes;
 import com.footstep.domain.posting.domain.posting.Posting;
 import com.footstep.domain.posting.repository.CommentRepository;
+import com.footstep.domain.posting.repository.LikeRedisRepository;
 import com.footstep.domain.posting.repository.LikeRepository;
 import com.footstep.domain.posting.repository.PostingRepository;
 import com.footstep.domain.posting.service.CommentService;
+import com.footstep.domain.posting.service.ImageUploadService;
+import com.footstep.domain.posting.service.PlaceService;
 import com.footstep.domain.posting.service.PostingService;
+import com.footstep.domain.posting.service.StoredImageService;
+import com.footstep.domain.posting.service.TimelineService;
+import com.footstep.domain.posting.service.UsersPlaceService;
 import com.footstep.domain.users.domain.Users;
 import com.footstep.domain.users.dto.JoinDto;
 import com.footstep.domain.users.dto.UsersInfo;
@@ -18,18 +24,17 @@ import com.footstep.domain.users.dto.changeProfileInfo.ChangePasswordInfo;
 import com.footstep.domain.users.dto.MyPageInfo;
 import com.footstep.domain.users.dto.TokenDto;
 import com.footstep.domain.users.repository.UsersRepository;
-import com.footstep.global.config.s3.S3UploadUtil;
+import com.footstep.global.config.redis.CacheKey;
 import com.footstep.global.config.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.joda.time.DateTime;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.mail.MessagingException;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -44,11 +49,16 @@ public class UsersService {
     private final UsersRepository usersRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
-    private final S3UploadUtil s3UploadUtil;
+    private final ImageUploadService imageUploadService;
+    private final StoredImageService storedImageService;
     private final PostingRepository postingRepository;
     private final PostingService postingService;
     private final CommentService commentService;
     private final LikeRepository likeRepository;
+    private final LikeRedisRepository likeRedisRepository;
+    private final TimelineService timelineService;
+    private final PlaceService placeService;
+    private final UsersPlaceService usersPlaceService;
     private final CommentRepository commentRepository;
     private final MailService mailService;
 
@@ -69,7 +79,8 @@ public class UsersService {
         return new MyPageInfo(currentUsers.getNickname(), postingCount, currentUsers.getProfileImageUrl());
     }
 
-    public void findPassword(UsersInfo usersInfo) throws BaseException, MessagingException, UnsupportedEncodingException {
+    @CacheEvict(value = CacheKey.USER, key = "#usersInfo.email")
+    public void findPassword(UsersInfo usersInfo) throws BaseException {
         Users users = usersRepository.findByEmail(usersInfo.getEmail()).orElseThrow(
                 () -> new BaseException(NOT_FOUND_USERS_ID));
         if (!users.getNickname().equals(usersInfo.getUsername())) {
@@ -80,6 +91,7 @@ public class UsersService {
         usersRepository.save(users);
     }
 
+    @CacheEvict(value = CacheKey.USER, key = "T(com.footstep.global.config.security.util.SecurityUtils).getLoggedUserEmail()")
     public void changePassword(ChangePasswordInfo changePasswordInfo) throws BaseException {
         Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail()).orElseThrow(() -> new BaseException(UNAUTHORIZED));
         if (!passwordEncoder.matches(changePasswordInfo.getCurrentPassword(), users.getPassword())) {
@@ -92,6 +104,7 @@ public class UsersService {
         usersRepository.save(users);
     }
 
+    @CacheEvict(value = CacheKey.USER, key = "T(com.footstep.global.config.security.util.SecurityUtils).getLoggedUserEmail()")
     public void changeNickname(String nickname) throws BaseException {
         Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail()).orElseThrow(() -> new BaseException(UNAUTHORIZED));
         if (!usersRepository.findByNickname(nickname).isEmpty()) {
@@ -102,26 +115,30 @@ public class UsersService {
     }
 
     public void changeProfileImage(MultipartFile profileImage) throws BaseException, IOException {
-        Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail()).orElseThrow(() -> new BaseException(UNAUTHORIZED));
-        String profileImageUrl = s3UploadUtil.upload(profileImage);
-        users.changeProfileImage(profileImageUrl);
-        usersRepository.save(users);
+        Long usersId = SecurityUtils.getLoggedUserId();
+        imageUploadService.uploadProfileImage(usersId, imageUploadService.spool(profileImage));
     }
 
     public void secession(TokenDto tokenDto) throws BaseException {
         Users users = usersRepository.findByEmail(SecurityUtils.getLoggedUserEmail()).orElseThrow(() -> new BaseException(UNAUTHORIZED));
         users.secession();
+        storedImageService.release(users.getProfileImageDigest());
         authService.logout(tokenDto, users.getEmail());
         List<Posting> postings = postingRepository.findByUsers(users);
         for (Posting posting : postings) {
             postingService.removePosting(posting.getId());
         }
         for (Comment comment : users.getComments()) {
-            commentService.deleteComment(comment.getId());
+            if (comment.getStatus() == Status.NORMAL)
+                commentService.deleteComment(comment.getId());
         }
         for (Likes like : users.getLikes()) {
+            if (like.getStatus() == Status.NORMAL)
+                postingRepository.decreaseLikeCount(like.getPosting().getId());
+            likeRedisRepository.evict(like.getPosting().getId());
             likeRepository.delete(like);
         }
+        likeRedisRepository.evictLiked(users.getId());
         usersRepository.save(users);
     }
 
@@ -135,20 +152,30 @@ public class UsersService {
         }
     }
 
+    @CacheEvict(value = CacheKey.USER, key = "#users.email")
     public void blocked(Users users) throws BaseException {
         List<Posting> postings = postingRepository.findByUsers(users);
         List<Comment> comments = commentRepository.findByUsers(users);
         for (Posting posting : postings) {
+            storedImageService.release(posting.getImageDigest());
             posting.removePosting();
             postingRepository.save(posting);
         }
+        timelineService.unpublish(postings.stream().map(Posting::getId).toList());
+        usersPlaceService.clear(users.getId());
+        placeService.evictPlaceCluster(users.getId());
         for (Comment comment : comments) {
             comment.changeStatus();
             commentRepository.save(comment);
+            postingRepository.decreaseCommentCount(comment.getPosting().getId());
         }
         for (Likes like : users.getLikes()) {
+            if (like.getStatus() == Status.NORMAL)
+                postingRepository.decreaseLikeCount(like.getPosting().getId());
+            likeRedisRepository.evict(like.getPosting().getId());
             likeRepository.delete(like);
         }
+        likeRedisRepository.evictLiked(users.getId());
         authService.removeRefreshTokenByUser(users.getEmail());
         users.changeBannedDate(LocalDateTime.now().plusDays(30));
         usersRepository.save(users);
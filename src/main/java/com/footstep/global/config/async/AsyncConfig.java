@@ -0,0 +1,57 @@
+package com.footstep.global.config.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String IMAGE_UPLOAD_EXECUTOR = "imageUploadExecutor";
+    public static final String MAIL_DISPATCH_EXECUTOR = "mailDispatchExecutor";
+
+    @Value("${image.upload.threads:4}")
+    private int imageUploadThreads;
+
+    // 대기 가능한 업로드 수, ImageUploadService 가 같은 수의 permit 으로 요청을 제한하므로 큐가 넘치지 않음
+    @Value("${image.upload.max-pending:64}")
+    private int imageUploadMaxPending;
+
+    // 동시에 발송하는 배치 수 (배치마다 SMTP 연결 하나)
+    @Value("${mail.outbox.threads:2}")
+    private int mailDispatchThreads;
+
+    @Bean(name = IMAGE_UPLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadThreads);
+        executor.setMaxPoolSize(imageUploadThreads);
+        executor.setQueueCapacity(imageUploadMaxPending);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * MailOutboxDispatcher 가 실행 중인 작업 수를 스레드 수 이하로 유지하므로 큐를 두지 않음
+     */
+    @Bean(name = MAIL_DISPATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor mailDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailDispatchThreads);
+        executor.setMaxPoolSize(mailDispatchThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    public int getImageUploadMaxPending() {
+        return imageUploadMaxPending;
+    }
+}
@@ -2,6 +2,7 @@ package com.footstep.global.config.jwt;
 
 import com.footstep.domain.users.repository.auth.LogoutAccessTokenRedisRepository;
 import com.footstep.global.config.security.CustomUserDetailService;
+import com.footstep.global.config.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,26 +25,38 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CustomUserDetailService customUserDetailService;
     private final LogoutAccessTokenRedisRepository logoutAccessTokenRedisRepository;
+    private final LogoutTokenFilter logoutTokenFilter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = getToken(request);
         if (accessToken != null) {
             checkLogout(accessToken);
-            String username = jwtTokenUtil.getUsername(accessToken);
+            VerifiedToken verifiedToken = verifiedTokenCache.verify(accessToken);
+            String username = verifiedToken.getUsername();
             if (username != null) {
-                UserDetails userDetails = customUserDetailService.loadUserByUsername(username);
-                equalsUsernameFromTokenAndUserDetails(userDetails.getUsername(), username);
-                validateAccessToken(accessToken, userDetails);
-                accessTokenIsExpired(accessToken);
+                accessTokenIsExpired(verifiedToken);
+                UserDetails userDetails = loadUserDetails(verifiedToken);
+                validateAccessToken(verifiedToken, userDetails);
                 processSecurity(request, userDetails);
             }
         }
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰에 유저 id와 권한이 있으면 claim 만으로 인증 정보를 생성
+     * 이전 버전에서 발급된 토큰만 유저 조회
+     */
+    private UserDetails loadUserDetails(VerifiedToken verifiedToken) {
+        if (verifiedToken.hasPrincipal())
+            return CustomUserDetails.of(verifiedToken.getUsersId(), verifiedToken.getUsername(), verifiedToken.getRoles());
+        return customUserDetailService.loadUserByUsername(verifiedToken.getUsername());
+    }
+
     private String getToken(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
@@ -53,25 +66,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void checkLogout(String accessToken) {
-        if (logoutAccessTokenRedisRepository.existsById(accessToken)) {
+        if (logoutTokenFilter.mightContain(accessToken) && logoutAccessTokenRedisRepository.existsById(accessToken)) {
             throw new IllegalArgumentException("이미 로그아웃된 회원입니다.");
         }
     }
 
-    private void equalsUsernameFromTokenAndUserDetails(String userDetailsUsername, String tokenUsername) {
-        if (!userDetailsUsername.equals(tokenUsername)) {
-            throw new IllegalArgumentException("username이 토큰과 맞지 않습니다.");
-        }
-    }
-
-    private void validateAccessToken(String accessToken, UserDetails userDetails) {
-        if (!jwtTokenUtil.validateToken(accessToken, userDetails)) {
+    private void validateAccessToken(VerifiedToken verifiedToken, UserDetails userDetails) {
+        if (!jwtTokenUtil.validateToken(verifiedToken, userDetails)) {
             throw new IllegalArgumentException("토큰 검증 실패");
         }
     }
 
-    private void accessTokenIsExpired(String accessToken) {
-        if (jwtTokenUtil.isTokenExpired(accessToken)) {
+    private void accessTokenIsExpired(VerifiedToken verifiedToken) {
+        if (verifiedToken.isExpired()) {
             throw new IllegalArgumentException("토큰 기간 만료. 로그인을 다시해주세요.");
         }
     }
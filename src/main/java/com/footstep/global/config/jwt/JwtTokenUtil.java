@@ -1,6 +1,7 @@
 package com.footstep.global.config.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 
 import static com.footstep.global.config.jwt.constants.JwtExpiration.ACCESS_TOKEN_EXPIRATION_TIME;
 import static com.footstep.global.config.jwt.constants.JwtExpiration.REFRESH_TOKEN_EXPIRATION_TIME;
@@ -19,59 +21,66 @@ import static com.footstep.global.config.jwt.constants.JwtExpiration.REFRESH_TOK
 @Component
 public class JwtTokenUtil {
 
-    private final String SECRET_KEY = "footstepfootstepfootstepfootstepfootstepfootstep";
+    private static final String SECRET_KEY = "footstepfootstepfootstepfootstepfootstepfootstep";
 
-    public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey(SECRET_KEY))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Key, JwtParser 는 불변이고 thread-safe 하므로 요청마다 새로 만들지 않고 공유
+    private final Key signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+
+    /**
+     * 서명/만료 검증을 한 번만 수행하고 결과를 VerifiedToken 으로 반환
+     * 서명이 잘못되었거나 만료된 토큰은 JwtException 발생
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.of(extractAllClaims(token));
     }
 
-    public String getUsername(String token) {
-        return extractAllClaims(token).get("username", String.class);
+    public Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    private Key getSigningKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public String getUsername(String token) {
+        return verify(token).getUsername();
     }
 
     public Boolean isTokenExpired(String token) {
-        Date expiration = extractAllClaims(token).getExpiration();
-        return expiration.before(new Date());
+        return verify(token).isExpired();
     }
 
-    public String generateAccessToken(String username) {
-        return doGenerateToken(username, ACCESS_TOKEN_EXPIRATION_TIME.getValue());
+    /**
+     * access 토큰에는 유저 id와 권한을 함께 담아 필터가 DB 조회 없이 인증 정보를 만들 수 있도록 함
+     */
+    public String generateAccessToken(String username, Long usersId, List<String> roles) {
+        Claims claims = Jwts.claims();
+        claims.put("username", username);
+        claims.put("userId", usersId);
+        claims.put("roles", roles);
+        return doGenerateToken(claims, ACCESS_TOKEN_EXPIRATION_TIME.getValue());
     }
 
     public String generateRefreshToken(String username) {
-        return doGenerateToken(username, REFRESH_TOKEN_EXPIRATION_TIME.getValue());
-    }
-
-    private String doGenerateToken(String username, long expireTime) {
         Claims claims = Jwts.claims();
         claims.put("username", username);
+        return doGenerateToken(claims, REFRESH_TOKEN_EXPIRATION_TIME.getValue());
+    }
+
+    private String doGenerateToken(Claims claims, long expireTime) {
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expireTime))
-                .signWith(getSigningKey(SECRET_KEY), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        String username = getUsername(token);
-        return username.equals((userDetails.getUsername()));
+    public Boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return token.getUsername().equals(userDetails.getUsername());
     }
 
     public long getRemainMilliSeconds(String token) {
-        Date expiration = extractAllClaims(token).getExpiration();
-        Date now = new Date();
-        return expiration.getTime() - now.getTime();
+        return verify(token).getRemainMilliSeconds();
     }
 }
-
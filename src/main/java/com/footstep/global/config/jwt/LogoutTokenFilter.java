@@ -0,0 +1,151 @@
+package com.footstep.global.config.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃된 access 토큰 해시의 로컬 Bloom filter
+ * 필터에 없으면 로그아웃되지 않은 토큰이 확실하므로 Redis 조회를 생략하고, 있을 때만 Redis 로 확인
+ * 다른 서버의 로그아웃은 pub/sub 으로 전달받고, 만료된 토큰 정리와 메시지 유실 보정을 위해 주기적으로 재구성
+ * 최초 구성 전에는 모든 토큰을 Redis 로 확인
+ */
+@Slf4j
+@Component
+public class LogoutTokenFilter {
+
+    public static final String CHANNEL = "logout:token";
+    // @RedisHash("logoutAccessToken") 이 관리하는 id(토큰) 집합
+    private static final String INDEX_KEY = "logoutAccessToken";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // put 과 필터 교체가 엇갈려 구성 중에 들어온 로그아웃이 유실되지 않도록 보호
+    private final Object swapLock = new Object();
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public LogoutTokenFilter(StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             @Value("${jwt.logout-filter.expected-insertions:100000}") long expectedInsertions,
+                             @Value("${jwt.logout-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> put(TokenHash.decode(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(CHANNEL));
+    }
+
+    public boolean mightContain(String token) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(TokenHash.digest(token));
+    }
+
+    /**
+     * Redis 에 로그아웃 토큰을 저장한 뒤 호출
+     * 로컬 필터에 바로 반영하고 다른 서버에는 토큰 원문 대신 해시를 발행
+     */
+    public void add(String token) {
+        String hash = TokenHash.encode(token);
+        put(TokenHash.decode(hash));
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, hash);
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 재구성 때 반영됨
+            log.warn("로그아웃 토큰 메시지 발행 실패", e);
+        }
+    }
+
+    private void put(byte[] digest) {
+        synchronized (swapLock) {
+            if (current != null)
+                current.put(digest);
+            if (building != null)
+                building.put(digest);
+        }
+    }
+
+    /**
+     * Redis 의 로그아웃 토큰 집합으로 새 필터를 만든 뒤 교체
+     * 구성 중에 들어온 로그아웃은 기존 필터와 새 필터에 모두 반영하고, 새 필터를 공개한 뒤에 구성 중 표시를 해제
+     */
+    public synchronized long rebuild() {
+        Long size = stringRedisTemplate.opsForSet().size(INDEX_KEY);
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, size == null ? 0L : size * 2), falsePositiveRate);
+        synchronized (swapLock) {
+            building = next;
+        }
+        long count = 0;
+        boolean built = false;
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(INDEX_KEY, ScanOptions.scanOptions().count(1000).build())) {
+            while (cursor.hasNext()) {
+                next.put(TokenHash.digest(cursor.next()));
+                count++;
+            }
+            built = true;
+        } finally {
+            synchronized (swapLock) {
+                if (built)
+                    current = next;
+                building = null;
+            }
+        }
+        return count;
+    }
+
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long numBits;
+        private final int numHashes;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1L, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+            this.numBits = bits.length() * 64L;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        }
+
+        void put(byte[] digest) {
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            long h1 = buffer.getLong(0);
+            long h2 = buffer.getLong(8);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, numBits);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                    if ((value & mask) != 0)
+                        break;
+                } while (!bits.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        boolean mightContain(byte[] digest) {
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            long h1 = buffer.getLong(0);
+            long h2 = buffer.getLong(8);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, numBits);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0)
+                    return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.footstep.global.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 사용하는 SHA-256 해시
+ */
+public final class TokenHash {
+
+    private TokenHash() {
+    }
+
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String encode(String token) {
+        return Base64.getEncoder().encodeToString(digest(token));
+    }
+
+    public static byte[] decode(String hash) {
+        return Base64.getDecoder().decode(hash);
+    }
+}
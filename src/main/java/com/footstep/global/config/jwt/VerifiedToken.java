@@ -0,0 +1,54 @@
+package com.footstep.global.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰
+ * 한 번 파싱한 결과를 요청 처리 동안 재사용하기 위한 불변 객체
+ * usersId, roles 는 이전 버전에서 발급된 토큰이면 null
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final String username;
+    private final Long usersId;
+    private final List<String> roles;
+    private final long issuedAt;
+    private final long expiration;
+
+    private VerifiedToken(String username, Long usersId, List<String> roles, long issuedAt, long expiration) {
+        this.username = username;
+        this.usersId = usersId;
+        this.roles = roles;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    static VerifiedToken of(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        Number usersId = claims.get("userId", Number.class);
+        List<?> roles = claims.get("roles", List.class);
+        return new VerifiedToken(claims.get("username", String.class),
+                usersId == null ? null : usersId.longValue(),
+                roles == null ? null : roles.stream().map(String::valueOf).toList(),
+                issuedAt == null ? 0L : issuedAt.getTime(),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime());
+    }
+
+    public boolean isExpired() {
+        return expiration <= System.currentTimeMillis();
+    }
+
+    public boolean hasPrincipal() {
+        return usersId != null && roles != null;
+    }
+
+    public long getRemainMilliSeconds() {
+        return expiration - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,60 @@
+package com.footstep.global.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 access 토큰의 로컬 캐시
+ * 같은 토큰이 반복 요청될 때 HS256 검증과 claim 파싱 대신 해시 조회만 수행
+ * 키는 토큰 원문이 아닌 SHA-256 해시, 항목은 토큰 만료 시각(최대 maxTtl)까지 유지
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenUtil jwtTokenUtil,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${jwt.cache.max-ttl-seconds:600}") long maxTtlSeconds) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.getRemainMilliSeconds()));
+                        return Math.min(remainNanos, maxTtlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 서명 검증 후 저장
+     * 검증 실패 시 JwtException 이 그대로 전파되고 캐시에는 저장되지 않음
+     */
+    public VerifiedToken verify(String token) {
+        return cache.get(TokenHash.encode(token), key -> jwtTokenUtil.verify(token));
+    }
+
+    public void evict(String token) {
+        cache.invalidate(TokenHash.encode(token));
+    }
+}
@@ -7,4 +7,6 @@ public class CacheKey {
 
     public static final String USER = "user";
     public static final int DEFAULT_EXPIRE_SEC = 60;
+    public static final int LOCAL_EXPIRE_SEC = 30;
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
 }
@@ -0,0 +1,108 @@
+package com.footstep.global.config.redis;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) L1 + Redis L2 캐시
+ * 조회는 L1 -> L2 순서, L2 적중 시 L1 에 채움
+ * 삭제는 L1, L2 를 모두 지우고 다른 서버의 L1 도 지우도록 pub/sub 으로 전파
+ * L1 키는 Redis 키와 같은 기준이 되도록 문자열로 변환해 사용
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final RedisCache redisCache;
+    private final TwoLevelCacheManager cacheManager;
+    private final Timer localTimer;
+    private final Timer redisTimer;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         RedisCache redisCache, TwoLevelCacheManager cacheManager, Timer localTimer, Timer redisTimer) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.cacheManager = cacheManager;
+        this.localTimer = localTimer;
+        this.redisTimer = redisTimer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = key.toString();
+        Object value = localTimer.record(() -> localCache.getIfPresent(localKey));
+        if (value != null)
+            return new SimpleValueWrapper(value);
+
+        ValueWrapper wrapper = redisTimer.record(() -> redisCache.get(key));
+        if (wrapper != null && wrapper.get() != null)
+            localCache.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value))
+            throw new IllegalStateException("캐시 값의 타입이 " + type.getName() + " 이 아닙니다: " + value);
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null)
+            return (T) wrapper.get();
+        T value = redisCache.get(key, valueLoader);
+        if (value != null)
+            localCache.put(key.toString(), value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        if (value != null)
+            localCache.put(key.toString(), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(key.toString());
+        cacheManager.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+}
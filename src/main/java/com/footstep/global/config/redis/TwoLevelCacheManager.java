@@ -0,0 +1,109 @@
+package com.footstep.global.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TwoLevelCache 를 만들어 주는 CacheManager
+ * 캐시별 L1/L2 적중률(cache.gets)과 조회 지연시간(cache.tier.latency)을 tier 태그로 구분해 기록
+ * 삭제 메시지 형식: "{서버 id}|{캐시 이름}|{키}", clear 는 키 없이 "{서버 id}|{캐시 이름}"
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final String DELIMITER = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry, long localMaximumSize, Duration localTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        RedisCache redisCache = (RedisCache) redisCacheManager.getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, Tags.of("tier", "l1"));
+        new RedisCacheMetrics(redisCache, Tags.of("tier", "l2")).bindTo(meterRegistry);
+        return new TwoLevelCache(name, localCache, redisCache, this, tierTimer(name, "l1"), tierTimer(name, "l2"));
+    }
+
+    private Timer tierTimer(String name, String tier) {
+        return Timer.builder("cache.tier.latency")
+                .description("캐시 계층별 조회 지연시간")
+                .tags("cache", name, "tier", tier)
+                .register(meterRegistry);
+    }
+
+    void publishEvict(String name, String key) {
+        publish(instanceId + DELIMITER + name + DELIMITER + key);
+    }
+
+    void publishClear(String name) {
+        publish(instanceId + DELIMITER + name);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CacheKey.INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 서버의 L1 은 localTtl 이 지나면 만료됨
+            log.warn("캐시 삭제 메시지 발행 실패 - {}", message, e);
+        }
+    }
+
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\" + DELIMITER, 3);
+        if (parts.length < 2 || instanceId.equals(parts[0]))
+            return;
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null)
+            return;
+        if (parts.length == 3)
+            cache.evictLocal(parts[2]);
+        else
+            cache.clearLocal();
+    }
+}
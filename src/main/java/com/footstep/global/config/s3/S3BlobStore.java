@@ -0,0 +1,118 @@
+package com.footstep.global.config.s3;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.footstep.domain.base.BaseException;
+import com.footstep.global.config.storage.BlobMetadata;
+import com.footstep.global.config.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Date;
+import java.util.Optional;
+
+import static com.footstep.domain.base.BaseResponseStatus.POSTING_INVALID_IMAGE;
+
+@RequiredArgsConstructor
+@Slf4j
+@Component
+@Profile("!local")
+public class S3BlobStore implements BlobStore {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final S3Config s3Config;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    /**
+     * 임시 디렉터리에 저장해 둔 파일을 지정한 키로 업로드
+     * 파일에서 바로 읽어 전송하므로 전체 내용을 메모리에 버퍼링하지 않음
+     * 큰 파일은 part 를 병렬로 전송하는 multipart 업로드, 파일 삭제는 호출한 쪽에서 처리
+     */
+    @Override
+    public String put(File file, String key, String contentType) throws IOException {
+        ObjectMetadata metadata = createMetadata(file.length(), contentType);
+        PutObjectRequest request = new PutObjectRequest(bucket, key, file)
+                .withMetadata(metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+
+        if (file.length() >= s3Config.getMultipartThreshold())
+            waitForCompletion(request);
+        else
+            amazonS3Client.putObject(request);
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public long read(String key, WritableByteChannel target) throws IOException {
+        try (S3Object object = amazonS3Client.getObject(bucket, key);
+             S3ObjectInputStream in = object.getObjectContent()) {
+            return in.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3Client.deleteObject(bucket, key);
+    }
+
+    @Override
+    public Optional<BlobMetadata> stat(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+            return Optional.of(new BlobMetadata(metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404)
+                return Optional.empty();
+            throw e;
+        }
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength) throws BaseException {
+        if (!s3Config.isDirectUploadAllowed(contentType, contentLength))
+            throw new BaseException(POSTING_INVALID_IMAGE);
+        Date expiration = new Date(System.currentTimeMillis() + s3Config.getDirectUploadExpiry().toMillis());
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    private ObjectMetadata createMetadata(long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType == null ? DEFAULT_CONTENT_TYPE : contentType);
+        return metadata;
+    }
+
+    private void waitForCompletion(PutObjectRequest request) throws IOException {
+        try {
+            transferManager.upload(request).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드가 중단되었습니다.", e);
+        }
+    }
+}
@@ -4,12 +4,23 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
 
 @Configuration
+@Profile("!local")
 public class S3Config {
+
+    public static final long MB = 1024L * 1024L;
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -19,6 +30,27 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 이 크기 이상인 파일은 multipart 업로드 (part 병렬 전송)
+    @Value("${cloud.aws.s3.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+
+    @Value("${cloud.aws.s3.multipart-part-size-mb:8}")
+    private long multipartPartSizeMb;
+
+    @Value("${cloud.aws.s3.upload-threads:4}")
+    private int uploadThreads;
+
+    // 클라이언트 직접 업로드(presigned PUT) 정책, 서명에 Content-Type / Content-Length 가 포함되어 발급 시 검사한 형식, 크기로만 업로드 가능
+    // 게시글에 쓰이지 않은 업로드 객체는 버킷 수명 주기 규칙으로 정리 (footstep/upload/ prefix, 1일)
+    @Value("${cloud.aws.s3.direct-upload.max-size-mb:20}")
+    private long directUploadMaxSizeMb;
+
+    @Value("${cloud.aws.s3.direct-upload.content-types:image/jpeg,image/png,image/webp,image/heic,image/heif}")
+    private Set<String> directUploadContentTypes;
+
+    @Value("${cloud.aws.s3.direct-upload.expiry-seconds:300}")
+    private long directUploadExpirySeconds;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
@@ -27,4 +59,27 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
                 .build();
     }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThresholdMb * MB)
+                .withMinimumUploadPartSize(multipartPartSizeMb * MB)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+                .build();
+    }
+
+    public long getMultipartThreshold() {
+        return multipartThresholdMb * MB;
+    }
+
+    public boolean isDirectUploadAllowed(String contentType, long contentLength) {
+        return contentType != null && directUploadContentTypes.contains(contentType)
+                && contentLength > 0 && contentLength <= directUploadMaxSizeMb * MB;
+    }
+
+    public Duration getDirectUploadExpiry() {
+        return Duration.ofSeconds(directUploadExpirySeconds);
+    }
 }
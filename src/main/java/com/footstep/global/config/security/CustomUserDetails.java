@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 @JsonIgnoreProperties({"enabled","accountNonExpired", "accountNonLocked", "credentialsNonExpired", "authorities"})
 public class CustomUserDetails implements UserDetails {
 
+    private Long id;
     private String username;
     private String password;
 
@@ -28,12 +29,24 @@ public class CustomUserDetails implements UserDetails {
 
     public static UserDetails of(Users users) {
         return CustomUserDetails.builder()
+                .id(users.getId())
                 .username(users.getEmail())
                 .password(users.getPassword())
                 .roles(users.getRoles())
                 .build();
     }
 
+    /**
+     * access 토큰 claim 으로 만드는 인증 정보 (비밀번호 없음)
+     */
+    public static UserDetails of(Long id, String username, List<String> roles) {
+        return CustomUserDetails.builder()
+                .id(id)
+                .username(username)
+                .roles(new ArrayList<>(roles))
+                .build();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream()
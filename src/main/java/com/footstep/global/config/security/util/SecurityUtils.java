@@ -1,9 +1,13 @@
 package com.footstep.global.config.security.util;
 
+import com.footstep.domain.base.BaseException;
+import com.footstep.global.config.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import static com.footstep.domain.base.BaseResponseStatus.UNAUTHORIZED;
+
 @RequiredArgsConstructor
 public class SecurityUtils {
 
@@ -11,4 +15,15 @@ public class SecurityUtils {
         Authentication principal = SecurityContextHolder.getContext().getAuthentication();
         return principal.getName();
     }
-}
\ No newline at end of file
+
+    /**
+     * 인증 정보에 담긴 유저 id, Users 엔티티를 조회하지 않고 현재 유저를 식별할 때 사용
+     */
+    public static Long getLoggedUserId() throws BaseException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getId() != null)
+            return userDetails.getId();
+        throw new BaseException(UNAUTHORIZED);
+    }
+}
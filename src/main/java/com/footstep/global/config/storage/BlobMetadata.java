@@ -0,0 +1,12 @@
+package com.footstep.global.config.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BlobMetadata {
+
+    private final long contentLength;
+    private final String contentType;
+}
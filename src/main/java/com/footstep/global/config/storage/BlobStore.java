@@ -0,0 +1,38 @@
+package com.footstep.global.config.storage;
+
+import com.footstep.domain.base.BaseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+/**
+ * 이미지 등 바이너리 객체 저장소
+ * 기본은 S3 (S3BlobStore), local 프로필에서는 디스크 (LocalBlobStore) - AWS 없이 부하 테스트, 사내 배포용
+ */
+public interface BlobStore {
+
+    /**
+     * 파일을 key 로 저장하고 공개 URL 반환, 파일 삭제는 호출한 쪽에서 처리
+     */
+    String put(File file, String key, String contentType) throws IOException;
+
+    /**
+     * key 의 내용을 target 으로 전송하고 전송한 바이트 수 반환
+     */
+    long read(String key, WritableByteChannel target) throws IOException;
+
+    void delete(String key);
+
+    /**
+     * 저장된 객체의 크기, 형식 조회 (S3 HEAD), 없으면 empty
+     */
+    Optional<BlobMetadata> stat(String key);
+
+    /**
+     * 클라이언트가 key 로 직접 올릴 수 있는 서명된 PUT URL 생성
+     * contentType, contentLength 가 서명에 포함되어 다른 형식, 크기로는 업로드할 수 없음
+     */
+    String createUploadUrl(String key, String contentType, long contentLength) throws BaseException;
+}
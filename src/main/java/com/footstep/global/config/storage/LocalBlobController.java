@@ -0,0 +1,44 @@
+package com.footstep.global.config.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import springfox.documentation.annotations.ApiIgnore;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+/**
+ * local 프로필에서 LocalBlobStore 에 저장한 이미지 제공 (S3 공개 URL 대용)
+ */
+@ApiIgnore
+@RestController
+@Profile("local")
+@RequiredArgsConstructor
+public class LocalBlobController {
+
+    public static final String PATH = "/blob";
+
+    private final LocalBlobStore localBlobStore;
+
+    @GetMapping(PATH + "/{dir}/{name:.+}")
+    public void read(@PathVariable("dir") String dir, @PathVariable("name") String name,
+                     HttpServletResponse response) throws IOException {
+        String key = dir + "/" + name;
+        long size = localBlobStore.size(key);
+        if (size < 0) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        String contentType = localBlobStore.probeContentType(key);
+        response.setContentType(contentType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : contentType);
+        response.setContentLengthLong(size);
+        response.setHeader("Cache-Control", "public, max-age=31536000, immutable");
+        localBlobStore.read(key, Channels.newChannel(response.getOutputStream()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.footstep.global.config.storage;
+
+import com.footstep.domain.base.BaseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static com.footstep.domain.base.BaseResponseStatus.DIRECT_UPLOAD_NOT_SUPPORTED;
+
+/**
+ * 로컬 디스크 저장소 (local 프로필)
+ * key 해시 앞 4자리로 2단계 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않도록 함 (ab/cd/{key})
+ * 쓰기/읽기 모두 FileChannel.transferFrom/transferTo 로 커널에서 바로 복사 (사용자 공간 버퍼 없음)
+ */
+@Slf4j
+@Component
+@Profile("local")
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalBlobStore(@Value("${storage.local.root:${java.io.tmpdir}/footstep-blob}") String root,
+                          @Value("${storage.local.base-url:http://localhost:8080" + LocalBlobController.PATH + "/}") String baseUrl) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        Files.createDirectories(this.root);
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 rename 해 읽는 쪽이 쓰는 중인 파일을 보지 않도록 함
+     */
+    @Override
+    public String put(File file, String key, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", null);
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            for (long position = 0; position < size; )
+                position += out.transferFrom(in, position, size - position);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return baseUrl + key;
+    }
+
+    @Override
+    public long read(String key, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = in.size();
+            for (long position = 0; position < size; )
+                position += in.transferTo(position, size - position, target);
+            return size;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<BlobMetadata> stat(String key) {
+        try {
+            long size = size(key);
+            return size < 0 ? Optional.empty() : Optional.of(new BlobMetadata(size, probeContentType(key)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 서명된 URL 을 발급할 수 없으므로 local 프로필은 multipart 업로드만 지원
+     */
+    @Override
+    public String createUploadUrl(String key, String contentType, long contentLength) throws BaseException {
+        throw new BaseException(DIRECT_UPLOAD_NOT_SUPPORTED);
+    }
+
+    public long size(String key) throws IOException {
+        try {
+            return Files.size(resolve(key));
+        } catch (NoSuchFileException e) {
+            return -1L;
+        }
+    }
+
+    public String probeContentType(String key) throws IOException {
+        return Files.probeContentType(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        String shard = HexFormat.of().formatHex(sha256(key.getBytes(StandardCharsets.UTF_8)));
+        Path path = root.resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(key).normalize();
+        if (!path.startsWith(root))
+            throw new IllegalArgumentException("잘못된 key 입니다. - " + key);
+        return path;
+    }
+
+    private byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.footstep.global.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogoutTokenFilterTest {
+
+    // Redis 의 logoutAccessToken 집합 역할
+    private final Set<String> loggedOut = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Runnable> duringScan = new AtomicReference<>();
+
+    private LogoutTokenFilter filter;
+    private MessageListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.size(anyString())).thenAnswer(invocation -> (long) loggedOut.size());
+        when(setOperations.scan(anyString(), any(ScanOptions.class))).thenAnswer(invocation -> cursor(loggedOut.iterator()));
+
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        filter = new LogoutTokenFilter(stringRedisTemplate, container, 1000, 0.01);
+
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        LogoutTokenFilter.BloomFilter bloomFilter = new LogoutTokenFilter.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++)
+            bloomFilter.put(TokenHash.digest("token-" + i));
+
+        for (int i = 0; i < 10_000; i++)
+            assertThat(bloomFilter.mightContain(TokenHash.digest("token-" + i))).isTrue();
+    }
+
+    @Test
+    void bloomFilterFalsePositiveRateStaysNearTarget() {
+        LogoutTokenFilter.BloomFilter bloomFilter = new LogoutTokenFilter.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++)
+            bloomFilter.put(TokenHash.digest("token-" + i));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain(TokenHash.digest("other-" + i)))
+                falsePositives++;
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void everyTokenMightBeLoggedOutBeforeFirstRebuild() {
+        assertThat(filter.mightContain("anything")).isTrue();
+    }
+
+    @Test
+    void rebuildLoadsTokensFromRedis() {
+        loggedOut.add("a");
+        loggedOut.add("b");
+
+        assertThat(filter.rebuild()).isEqualTo(2);
+        assertThat(filter.mightContain("a")).isTrue();
+        assertThat(filter.mightContain("b")).isTrue();
+    }
+
+    @Test
+    void logoutReceivedDuringRebuildSurvivesSwap() {
+        filter.rebuild();
+        // Redis 에는 아직 반영되지 않았고 다른 서버에서 pub/sub 으로만 전달된 로그아웃
+        duringScan.set(() -> listener.onMessage(message("remote")));
+
+        filter.rebuild();
+
+        assertThat(filter.mightContain("remote")).isTrue();
+    }
+
+    @Test
+    void concurrentLogoutsAreNotLostAcrossRebuilds() throws InterruptedException {
+        filter.rebuild();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (running.get())
+                filter.rebuild();
+        });
+        rebuilder.start();
+
+        List<String> tokens = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String token = "token-" + i;
+                tokens.add(token);
+                // 실제 흐름과 같이 Redis 저장 후 필터에 반영
+                loggedOut.add(token);
+                filter.add(token);
+            }
+        } finally {
+            running.set(false);
+            rebuilder.join();
+        }
+
+        for (String token : tokens)
+            assertThat(filter.mightContain(token)).as(token).isTrue();
+    }
+
+    private DefaultMessage message(String token) {
+        return new DefaultMessage(LogoutTokenFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                TokenHash.encode(token).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursor(Iterator<String> iterator) {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> {
+            Runnable action = duringScan.getAndSet(null);
+            if (action != null)
+                action.run();
+            return iterator.hasNext();
+        });
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}